@@ -0,0 +1,68 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    private String state;
+
+    @Param({"10000"})
+    private int bookings;
+
+    private ConfigurableApplicationContext context;
+
+    private BookingService bookingService;
+
+    private long bookerId;
+
+    private long ownerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServerContext.start();
+        bookingService = context.getBean(BookingService.class);
+
+        DataSeeder seeder = new DataSeeder(context);
+        User owner = seeder.addUser("Owner Name");
+        User booker = seeder.addUser("Booker Name");
+        List<Item> items = seeder.addItems(owner, 100);
+        seeder.addBookings(booker, items, bookings);
+
+        ownerId = owner.getId();
+        bookerId = booker.getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Collection<BookingDto> getBookings() {
+        return bookingService.getBookings(bookerId, state, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Collection<BookingDto> getBookingsByItemOwner() {
+        return bookingService.getBookingsByItemOwner(ownerId, state, 0, PAGE_SIZE);
+    }
+
+}
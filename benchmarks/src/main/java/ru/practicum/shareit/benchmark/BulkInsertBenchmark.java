@@ -0,0 +1,109 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingRequestBody;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.importing.ItemImportFormat;
+import ru.practicum.shareit.item.importing.ItemImportService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Пропускная способность массовой вставки, строк в секунду. Режим {@code batchSize=1} соответствует
+ * прежнему поведению, когда каждая строка отправлялась в базу отдельным запросом.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 500;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private BookingService bookingService;
+
+    private ItemImportService itemImportService;
+
+    private byte[] itemsFile;
+
+    private long ownerId;
+
+    private long bookerId;
+
+    private List<Item> items;
+
+    private LocalDateTime nextStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServerContext.start("spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        bookingService = context.getBean(BookingService.class);
+        itemImportService = context.getBean(ItemImportService.class);
+
+        DataSeeder seeder = new DataSeeder(context);
+        User owner = seeder.addUser("Owner Name");
+        ownerId = owner.getId();
+        bookerId = seeder.addUser("Booker Name").getId();
+        items = seeder
+                .addItems(owner, 100)
+                .stream()
+                .filter(Item::getAvailable)
+                .collect(Collectors.toList());
+        nextStart = LocalDateTime.now().plusDays(1);
+
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < ROWS; i++) {
+            lines.append("{\"name\":\"Item ").append(i).append("\",\"description\":\"Imported item\",\"available\":true}\n");
+        }
+        itemsFile = lines.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public ItemImportResultDto importItems() throws IOException {
+        return itemImportService.importItems(ownerId,
+                ItemImportFormat.JSON_LINES,
+                new ByteArrayInputStream(itemsFile),
+                StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<BookingBatchResultDto> addBookings() {
+        List<BookingRequestBody> bookingRequestBodies = new ArrayList<>(ROWS);
+
+        for (int i = 0; i < ROWS; i++) {
+            bookingRequestBodies.add(new BookingRequestBody(items.get(i % items.size()).getId(),
+                    nextStart,
+                    nextStart.plusMinutes(30)));
+            nextStart = nextStart.plusHours(1);
+        }
+
+        return bookingService.addBookings(bookerId, bookingRequestBodies);
+    }
+
+}
@@ -0,0 +1,90 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.context.ApplicationContext;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Заполняет базу воспроизводимым набором данных: генератор случайных чисел инициализируется константой.
+ */
+class DataSeeder {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String[] WORDS = {
+            "drill", "hammer", "saw", "ladder", "tent", "bicycle", "projector", "camera",
+            "cordless", "electric", "folding", "portable", "heavy", "compact", "professional", "old"
+    };
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final Random random = new Random(42);
+
+    DataSeeder(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.itemRepository = context.getBean(ItemRepository.class);
+        this.bookingRepository = context.getBean(BookingRepository.class);
+    }
+
+    User addUser(String name) {
+        return userRepository.save(new User(null, name, name.toLowerCase().replace(' ', '.') + "@mail.com"));
+    }
+
+    List<Item> addItems(User owner, int count) {
+        List<Item> items = new ArrayList<>(count);
+        List<Item> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        for (int i = 0; i < count; i++) {
+            chunk.add(new Item(null, word() + " " + word(), word() + " " + word() + " " + word(), random.nextInt(10) > 0, owner, null));
+
+            if (chunk.size() == CHUNK_SIZE || i == count - 1) {
+                items.addAll(itemRepository.saveAll(chunk));
+                chunk.clear();
+            }
+        }
+
+        return items;
+    }
+
+    /**
+     * Добавляет бронирования, равномерно распределённые между прошлыми, текущими и будущими,
+     * со всеми статусами.
+     */
+    void addBookings(User booker, List<Item> items, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        Status[] statuses = Status.values();
+        List<Booking> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = now.plusHours(random.nextInt(24 * 365 * 2) - 24 * 365);
+            LocalDateTime end = start.plusHours(1 + random.nextInt(24 * 7));
+            chunk.add(new Booking(null,
+                    start,
+                    end,
+                    items.get(random.nextInt(items.size())),
+                    booker,
+                    statuses[random.nextInt(statuses.length)]));
+
+            if (chunk.size() == CHUNK_SIZE || i == count - 1) {
+                bookingRepository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+}
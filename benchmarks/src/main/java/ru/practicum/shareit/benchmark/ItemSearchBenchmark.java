@@ -0,0 +1,60 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.search.InMemoryItemSearch;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск вещей в режимах, доступных на H2. Режимы {@code full-text} и {@code trigram} требуют PostgreSQL
+ * с расширениями и их миграций, поэтому здесь не замеряются; их нагрузку показывает модуль {@code load-test}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"like", "in-memory"})
+    private String mode;
+
+    @Param({"10000"})
+    private int items;
+
+    @Param({"drill", "cordless dri", "projector"})
+    private String text;
+
+    private ConfigurableApplicationContext context;
+
+    private ItemService itemService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServerContext.start("shareit.item.search=" + mode);
+        itemService = context.getBean(ItemService.class);
+
+        DataSeeder seeder = new DataSeeder(context);
+        seeder.addItems(seeder.addUser("Owner Name"), items);
+
+        context.getBeanProvider(InMemoryItemSearch.class).ifAvailable(InMemoryItemSearch::warmUp);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Collection<ItemDto> searchItems() {
+        return itemService.searchItems(text, 0, PAGE_SIZE);
+    }
+
+}
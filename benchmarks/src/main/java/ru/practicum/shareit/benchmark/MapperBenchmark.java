@@ -0,0 +1,93 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemExtendedDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int requestItems;
+
+    private Booking booking;
+
+    private Item item;
+
+    private ItemRequest itemRequest;
+
+    private BookingShortDto lastBooking;
+
+    private BookingShortDto nextBooking;
+
+    private List<CommentDto> comments;
+
+    @Setup
+    public void setUp() {
+        User owner = new User(1L, "Owner Name", "owner.name@mail.com");
+        User booker = new User(2L, "Booker Name", "booker.name@mail.com");
+        LocalDateTime now = LocalDateTime.now();
+
+        itemRequest = new ItemRequest(1L, "Request Description", booker, now, null);
+        item = new Item(1L, "Item Name", "Item Description", true, owner, itemRequest);
+        booking = new Booking(1L, now.plusDays(1), now.plusDays(2), item, booker, Status.APPROVED);
+        lastBooking = new BookingShortDto(2L, 2L);
+        nextBooking = new BookingShortDto(3L, 2L);
+        comments = List.of(new CommentDto(1L, "Comment", "Booker Name", now));
+
+        Set<Item> items = new HashSet<>();
+        for (long id = 1; id <= requestItems; id++) {
+            items.add(new Item(id, "Item " + id, "Item Description", true, owner, itemRequest));
+        }
+        itemRequest.setItems(items);
+    }
+
+    @Benchmark
+    public BookingDto bookingToBookingDto() {
+        return BookingMapper.toBookingDto(booking);
+    }
+
+    @Benchmark
+    public BookingShortDto bookingToBookingShortDto() {
+        return BookingMapper.toBookingShortDto(booking);
+    }
+
+    @Benchmark
+    public ItemDto itemToItemDto() {
+        return ItemMapper.toItemDto(item);
+    }
+
+    @Benchmark
+    public ItemExtendedDto itemToItemExtendedDto() {
+        return ItemMapper.toItemExtendedDto(item, lastBooking, nextBooking, comments);
+    }
+
+    @Benchmark
+    public ItemRequestDto itemRequestToItemRequestDto() {
+        return ItemRequestMapper.toItemRequestDto(itemRequest);
+    }
+
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.benchmark;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Запускает сервер без веб-слоя на встроенной H2 (профиль {@code test}) для замеров сервисов.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class ServerContext {
+
+    static ConfigurableApplicationContext start(String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+                "--logging.level.root=warn",
+                "--spring.jpa.properties.javax.persistence.validation.mode=none"));
+
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+
+        return new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(args.toArray(new String[0]));
+    }
+
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * В блокирующем режиме клиента запрос шлюза ждёт ответа сервера в потоке Tomcat. С этой настройкой
+ * запросы обрабатываются в виртуальных потоках, и ожидание сервера не занимает поток ОС.
+ * В реактивном режиме потоки запросов не блокируются, и настройка не применяется.
+ * Требует JDK 21 или новее; сборка на Java 11, поэтому исполнитель создаётся через рефлексию.
+ */
+@Configuration
+@ConditionalOnExpression("${shareit.threads.virtual:false} and '${shareit-server.client.mode:blocking}' == 'blocking'")
+public class VirtualThreadsConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Виртуальные потоки доступны начиная с JDK 21, текущая версия " + Runtime.version(), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Не удалось создать исполнитель на виртуальных потоках", e);
+        }
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+}
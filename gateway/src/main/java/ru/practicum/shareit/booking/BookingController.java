@@ -6,6 +6,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.Constants;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingState;
@@ -14,6 +16,8 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.util.List;
 
 @Controller
 @RequestMapping(path = "/bookings")
@@ -25,47 +29,98 @@ public class BookingController {
     private final BookingClient bookingClient;
 
     @PostMapping
-    public ResponseEntity<Object> addBooking(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                                             @Valid @RequestBody BookingDto bookingDto) {
+    public Mono<ResponseEntity<Object>> addBooking(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                   @Valid @RequestBody BookingDto bookingDto) {
         log.info("Create booking {}, userId={}", bookingDto, userId);
         return bookingClient.addBooking(userId, bookingDto);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> addBookings(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                    @NotNull @Size(min = 1, max = 500) @RequestBody List<@Valid BookingDto> bookingDtos) {
+        log.info("Create {} bookings, userId={}", bookingDtos.size(), userId);
+        return bookingClient.addBookings(userId, bookingDtos);
+    }
+
+    @PatchMapping("/batch")
+    public Mono<ResponseEntity<Object>> updateBookings(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                       @NotNull @RequestParam(name = "approved") Boolean approved,
+                                                       @NotNull @Size(min = 1, max = 500) @RequestBody List<Long> bookingIds) {
+        log.info("Update bookings {}, approved={}, userId={}", bookingIds, approved, userId);
+        return bookingClient.updateBookings(userId, bookingIds, approved);
+    }
+
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBooking(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                                             @PathVariable Long bookingId) {
+    public Mono<ResponseEntity<Object>> getBooking(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                   @PathVariable Long bookingId) {
         log.info("Get booking {}, userId={}", bookingId, userId);
         return bookingClient.getBooking(userId, bookingId);
     }
 
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> updateBooking(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                                                @PathVariable Long bookingId,
-                                                @NotNull @RequestParam(name = "approved") Boolean approved) {
+    public Mono<ResponseEntity<Object>> updateBooking(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                      @PathVariable Long bookingId,
+                                                      @NotNull @RequestParam(name = "approved") Boolean approved) {
         log.info("Update booking {}, userId={}", bookingId, userId);
         return bookingClient.updateBooking(userId, bookingId, approved);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getBookings(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                                              @RequestParam(name = "state", defaultValue = "all") String stateParam,
-                                              @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+    public Mono<ResponseEntity<Object>> getBookings(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                    @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                    @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                    @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                    @RequestParam(name = "cursor", required = false) String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
+        if (cursor != null) {
+            log.info("Get booking with state {}, userId={}, cursor={}, size={}", stateParam, userId, cursor, size);
+            return bookingClient.getBookingsAfter(userId, state, cursor, size);
+        }
         log.info("Get booking with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
         return bookingClient.getBookings(userId, state, from, size);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getBookingsByItemOwner(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                                                         @RequestParam(name = "state", defaultValue = "all") String stateParam,
-                                                         @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                                         @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+    public Mono<ResponseEntity<Object>> getBookingsByItemOwner(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                               @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                               @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                               @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                               @RequestParam(name = "cursor", required = false) String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
+        if (cursor != null) {
+            log.info("Get booking by item owner with state {}, userId={}, cursor={}, size={}", stateParam, userId, cursor, size);
+            return bookingClient.getBookingsByItemOwnerAfter(userId, state, cursor, size);
+        }
         log.info("Get booking by item owner with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
         return bookingClient.getBookingsByItemOwner(userId, state, from, size);
     }
 
+    @GetMapping("/export")
+    public Mono<ResponseEntity<StreamingResponseBody>> exportBookings(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                                      @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                                      @RequestParam(name = "format", defaultValue = "jsonl") String format) {
+        BookingState state = BookingState.from(stateParam)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
+        log.info("Export bookings with state {}, format={}, userId={}", stateParam, format, userId);
+        return bookingClient.exportBookings(userId, state, format);
+    }
+
+    @GetMapping("/owner/export")
+    public Mono<ResponseEntity<StreamingResponseBody>> exportBookingsByItemOwner(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                                                 @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                                                 @RequestParam(name = "format", defaultValue = "jsonl") String format) {
+        BookingState state = BookingState.from(stateParam)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
+        log.info("Export bookings by item owner with state {}, format={}, userId={}", stateParam, format, userId);
+        return bookingClient.exportBookingsByItemOwner(userId, state, format);
+    }
+
+    @GetMapping("/owner/stats")
+    public Mono<ResponseEntity<Object>> getBookingStatsByItemOwner(@RequestHeader(Constants.UserIdRequestHeaderName) long userId) {
+        log.info("Get booking stats by item owner, userId={}", userId);
+        return bookingClient.getBookingStatsByItemOwner(userId);
+    }
+
 }
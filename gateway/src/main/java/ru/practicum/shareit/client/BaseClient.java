@@ -1,28 +1,62 @@
 package ru.practicum.shareit.client;
 
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.*;
 import org.springframework.lang.Nullable;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.Constants;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 public class BaseClient {
 
-    protected final RestTemplate rest;
+    /**
+     * Заголовки соединения между шлюзом и сервером, которые не передаются клиенту шлюза.
+     * Длину тела Tomcat выставляет сам.
+     */
+    private static final Set<String> HOP_BY_HOP_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
 
-    public BaseClient(RestTemplate rest) {
-        this.rest = rest;
+    static {
+        HOP_BY_HOP_HEADERS.addAll(List.of(
+                HttpHeaders.CONNECTION,
+                HttpHeaders.CONTENT_LENGTH,
+                HttpHeaders.TRANSFER_ENCODING,
+                HttpHeaders.UPGRADE,
+                HttpHeaders.PROXY_AUTHENTICATE,
+                "Trailer",
+                "Keep-Alive"
+        ));
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
+    protected final ServerTransport transport;
+
+    private final ResponseCache responseCache;
+
+    /**
+     * Области кэша, которые сбрасываются после любого изменяющего запроса клиента.
+     */
+    private final String[] invalidatedRegions;
+
+    public BaseClient(ServerTransport transport, ResponseCache responseCache, String... invalidatedRegions) {
+        this.transport = transport;
+        this.responseCache = responseCache;
+        this.invalidatedRegions = invalidatedRegions;
+    }
 
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+    /**
+     * Ответ сервера передаётся клиенту шлюза без разбора: тело отдаётся теми же байтами с исходным
+     * {@code Content-Type}, поэтому при записи ответа выбирается конвертер массива байтов, а не JSON.
+     */
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity
+                .status(response.getStatusCode())
+                .headers(endToEndHeaders(response.getHeaders()));
 
         if (response.hasBody()) {
             return responseBuilder.body(response.getBody());
@@ -31,80 +65,126 @@ public class BaseClient {
         return responseBuilder.build();
     }
 
-    protected ResponseEntity<Object> get(String path) {
+    private static ResponseEntity<StreamingResponseBody> prepareStreamingGatewayResponse(ResponseEntity<StreamingResponseBody> response) {
+        return ResponseEntity
+                .status(response.getStatusCodeValue())
+                .headers(endToEndHeaders(response.getHeaders()))
+                .body(response.getBody());
+    }
+
+    private static HttpHeaders endToEndHeaders(HttpHeaders serverHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        serverHeaders.forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name)) {
+                headers.addAll(name, values);
+            }
+        });
+        return headers;
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path) {
         return get(path, null, null);
     }
 
-    protected ResponseEntity<Object> get(String path, long userId) {
+    protected Mono<ResponseEntity<Object>> get(String path, long userId) {
         return get(path, userId, null);
     }
 
-    protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected Mono<ResponseEntity<Object>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, T body) {
+    /**
+     * GET-запрос, успешный ответ на который кэшируется в области {@code region}.
+     * Если ответ одинаков для всех пользователей ({@code perUser = false}), пользователь не входит в ключ,
+     * но заголовок с ним всё равно передаётся серверу.
+     */
+    protected Mono<ResponseEntity<Object>> cachedGet(String region, String path, long userId, boolean perUser, @Nullable Map<String, Object> parameters) {
+        String key = (perUser ? String.valueOf(userId) : "*") + ' ' + path + ' ' + (parameters != null ? new TreeMap<>(parameters) : "");
+        return responseCache.get(region, key, () -> get(path, userId, parameters));
+    }
+
+    /**
+     * GET-запрос выгрузки: тело ответа передаётся клиенту шлюза потоком, без чтения в память и кэширования.
+     */
+    protected Mono<ResponseEntity<StreamingResponseBody>> getStream(String path, long userId, @Nullable Map<String, Object> parameters) {
+        HttpHeaders headers = defaultHeaders(userId);
+        headers.setAccept(List.of(MediaType.ALL));
+        return transport
+                .exchangeStreaming(HttpMethod.GET, path, parameters, headers)
+                .map(BaseClient::prepareStreamingGatewayResponse);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, T body) {
         return post(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> post(String path, long userId, T body) {
         return post(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, T body) {
+    /**
+     * POST-запрос, тело которого передаётся серверу потоком по мере чтения из {@code body},
+     * не собираясь в памяти шлюза.
+     */
+    protected Mono<ResponseEntity<Object>> postStream(String path, long userId, MediaType contentType, InputStream body) {
+        HttpHeaders headers = defaultHeaders(userId);
+        headers.setContentType(contentType);
+        return send(HttpMethod.POST, transport.exchange(HttpMethod.POST, path, null, headers, new InputStreamResource(body)));
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> put(String path, long userId, T body) {
         return put(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, T body) {
         return patch(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId) {
         return patch(path, userId, null, null);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId, T body) {
         return patch(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
     }
 
-    protected ResponseEntity<Object> delete(String path) {
+    protected Mono<ResponseEntity<Object>> delete(String path) {
         return delete(path, null, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, long userId) {
+    protected Mono<ResponseEntity<Object>> delete(String path, long userId) {
         return delete(path, userId, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected Mono<ResponseEntity<Object>> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
-    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+    private <T> Mono<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        return send(method, transport.exchange(method, path, parameters, defaultHeaders(userId), body));
+    }
 
-        ResponseEntity<Object> shareitServerResponse;
-        try {
-            if (parameters != null && !parameters.isEmpty()) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
-            }
-        } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+    private Mono<ResponseEntity<Object>> send(HttpMethod method, Mono<ResponseEntity<byte[]>> exchange) {
+        Mono<ResponseEntity<Object>> response = exchange.map(BaseClient::prepareGatewayResponse);
+
+        if (method == HttpMethod.GET || invalidatedRegions.length == 0) {
+            return response;
         }
-        return prepareGatewayResponse(shareitServerResponse);
+
+        return response.doFinally(signal -> responseCache.invalidate(invalidatedRegions));
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
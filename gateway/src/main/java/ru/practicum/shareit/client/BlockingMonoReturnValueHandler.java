@@ -0,0 +1,83 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Type;
+
+/**
+ * В блокирующем режиме запрос к серверу и так выполняется в потоке обработки запроса шлюза, поэтому
+ * {@link Mono} контроллера дожидается здесь же, а результат обрабатывается так, будто метод вернул его
+ * напрямую. Асинхронная обработка и повторная диспетчеризация запроса на каждый ответ не нужны.
+ * <p>
+ * Потоковое тело ответа по-прежнему пишется асинхронно и закрывается {@link CloseableBodyReturnValueHandler}.
+ */
+class BlockingMonoReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final HandlerMethodReturnValueHandler delegate;
+
+    BlockingMonoReturnValueHandler(HandlerMethodReturnValueHandler delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return Mono.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue,
+                                  MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest) throws Exception {
+        Object value = returnValue != null
+                ? ((Mono<?>) returnValue).block()
+                : null;
+
+        if (value == null) {
+            mavContainer.setRequestHandled(true);
+            return;
+        }
+
+        delegate.handleReturnValue(value, new MonoValueType(returnType), mavContainer, webRequest);
+    }
+
+    /**
+     * Тип возвращаемого значения метода с {@code Mono<T>}, подменённый на {@code T}.
+     */
+    private static class MonoValueType extends MethodParameter {
+
+        private final ResolvableType valueType;
+
+        MonoValueType(MethodParameter returnType) {
+            super(returnType);
+            this.valueType = ResolvableType.forMethodParameter(returnType).getGeneric();
+        }
+
+        private MonoValueType(MonoValueType original) {
+            super(original);
+            this.valueType = original.valueType;
+        }
+
+        @Override
+        public Class<?> getParameterType() {
+            return valueType.toClass();
+        }
+
+        @Override
+        public Type getGenericParameterType() {
+            return valueType.getType();
+        }
+
+        @Override
+        public MonoValueType clone() {
+            return new MonoValueType(this);
+        }
+
+    }
+
+}
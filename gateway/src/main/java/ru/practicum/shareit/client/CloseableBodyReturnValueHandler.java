@@ -0,0 +1,65 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.io.Closeable;
+import java.util.concurrent.Callable;
+
+/**
+ * Закрывает тело {@link ResponseEntity}, если оно реализует {@link Closeable}: по завершении асинхронной
+ * записи, в том числе по таймауту и при отключении клиента, или сразу, если асинхронная запись так и не
+ * началась. Так соединение с сервером, тело ответа которого копирует шлюз, освобождается в любом
+ * режиме клиента. Остальные значения передаются стандартным обработчикам без изменений.
+ */
+class CloseableBodyReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private static final String CLOSE_BODY_INTERCEPTOR_KEY = CloseableBodyReturnValueHandler.class.getName() + ".closeBody";
+
+    private final HandlerMethodReturnValueHandler delegate;
+
+    CloseableBodyReturnValueHandler(HandlerMethodReturnValueHandler delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return ResponseEntity.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue,
+                                  MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest) throws Exception {
+        Closeable body = returnValue instanceof ResponseEntity && ((ResponseEntity<?>) returnValue).getBody() instanceof Closeable
+                ? (Closeable) ((ResponseEntity<?>) returnValue).getBody()
+                : null;
+        if (body == null) {
+            delegate.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+            return;
+        }
+
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(webRequest);
+        asyncManager.registerCallableInterceptor(CLOSE_BODY_INTERCEPTOR_KEY, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) throws Exception {
+                body.close();
+            }
+        });
+        try {
+            delegate.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+        } finally {
+            if (!asyncManager.isConcurrentHandlingStarted()) {
+                body.close();
+            }
+        }
+    }
+
+}
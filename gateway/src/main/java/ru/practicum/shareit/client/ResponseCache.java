@@ -0,0 +1,92 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Кэш успешных ответов сервера на запросы чтения, ограниченный по размеру и времени жизни.
+ * Ответы разделены на области по данным, от которых они зависят. Изменение данных через шлюз
+ * увеличивает поколение области: ключи старого поколения больше не читаются и вытесняются сами.
+ * Поколение фиксируется в начале запроса, поэтому ответ, полученный до изменения, не попадёт в новое поколение.
+ * Статистика попаданий публикуется в метриках {@code cache.gets}, {@code cache.size}, {@code cache.evictions}
+ * с тегом {@code cache=gateway-responses}.
+ */
+@Component
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCache {
+
+    /**
+     * Вещи, их поиск и комментарии; зависят также от бронирований и имён пользователей.
+     */
+    public static final String ITEMS = "items";
+
+    /**
+     * Запросы вещей вместе с вещами, созданными в ответ на них.
+     */
+    public static final String REQUESTS = "requests";
+
+    private final boolean enabled;
+
+    private final Cache<String, ResponseEntity<Object>> cache;
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway-responses");
+    }
+
+    /**
+     * Возвращает ответ из кэша или загружает его и запоминает, если статус ответа успешный.
+     */
+    public Mono<ResponseEntity<Object>> get(String region, String key, Supplier<Mono<ResponseEntity<Object>>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        return Mono.defer(() -> {
+            String cacheKey = region + ':' + generation(region).get() + ':' + key;
+            ResponseEntity<Object> cached = cache.getIfPresent(cacheKey);
+
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            return loader
+                    .get()
+                    .doOnNext(response -> {
+                        if (response.getStatusCode().is2xxSuccessful()) {
+                            cache.put(cacheKey, response);
+                        }
+                    });
+        });
+    }
+
+    public void invalidate(String... regions) {
+        for (String region : regions) {
+            generation(region).incrementAndGet();
+        }
+    }
+
+    private AtomicLong generation(String region) {
+        return generations.computeIfAbsent(region, key -> new AtomicLong());
+    }
+
+}
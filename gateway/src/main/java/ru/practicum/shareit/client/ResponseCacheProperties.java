@@ -0,0 +1,29 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки кэша ответов сервера в шлюзе.
+ */
+@ConfigurationProperties(prefix = "shareit-server.cache")
+@Getter
+@Setter
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Время жизни ответа в кэше с момента получения от сервера.
+     */
+    private Duration ttl = Duration.ofSeconds(2);
+
+    /**
+     * Максимальное число ответов в кэше.
+     */
+    private long maxSize = 10_000;
+
+}
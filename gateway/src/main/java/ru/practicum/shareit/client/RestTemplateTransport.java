@@ -0,0 +1,144 @@
+package ru.practicum.shareit.client;
+
+import org.apache.http.conn.ConnectionReleaseTrigger;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Запрос выполняется в потоке, подписавшемся на результат, то есть в потоке обработки запроса шлюза.
+ * Тело-ресурс (загрузка файла) отправляется через отдельный {@code RestTemplate} без буферизации тела.
+ */
+class RestTemplateTransport implements ServerTransport {
+
+    private final RestTemplate rest;
+
+    private final RestTemplate uploadRest;
+
+    RestTemplateTransport(RestTemplate rest, RestTemplate uploadRest) {
+        this.rest = rest;
+        this.uploadRest = uploadRest;
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<byte[]>> exchange(HttpMethod method,
+                                                     String path,
+                                                     @Nullable Map<String, Object> parameters,
+                                                     HttpHeaders headers,
+                                                     @Nullable T body) {
+        return Mono.fromCallable(() -> exchangeBlocking(method, path, parameters, new HttpEntity<>(body, headers)));
+    }
+
+    /**
+     * Запрос выполняется фабрикой запросов {@code RestTemplate} напрямую: {@code RestTemplate} закрывает
+     * ответ сразу после разбора, а здесь соединение остаётся открытым до конца копирования тела.
+     * Тело ответа реализует {@link Closeable}: обработчик ответа шлюза закрывает его по завершении
+     * асинхронной обработки, даже если копирование так и не началось.
+     */
+    @Override
+    public Mono<ResponseEntity<StreamingResponseBody>> exchangeStreaming(HttpMethod method,
+                                                                         String path,
+                                                                         @Nullable Map<String, Object> parameters,
+                                                                         HttpHeaders headers) {
+        return Mono.fromCallable(() -> exchangeStreamingBlocking(method, path, parameters, headers));
+    }
+
+    private ResponseEntity<StreamingResponseBody> exchangeStreamingBlocking(HttpMethod method,
+                                                                           String path,
+                                                                           @Nullable Map<String, Object> parameters,
+                                                                           HttpHeaders headers) throws IOException {
+        URI uri = rest.getUriTemplateHandler().expand(path, parameters != null ? parameters : Map.of());
+        ClientHttpRequest request = rest.getRequestFactory().createRequest(uri, method);
+        request.getHeaders().addAll(headers);
+        ClientHttpResponse response = request.execute();
+
+        return ResponseEntity
+                .status(response.getRawStatusCode())
+                .headers(response.getHeaders())
+                .body(new ServerResponseBody(response));
+    }
+
+    private <T> ResponseEntity<byte[]> exchangeBlocking(HttpMethod method,
+                                                        String path,
+                                                        @Nullable Map<String, Object> parameters,
+                                                        HttpEntity<T> requestEntity) {
+        RestTemplate template = requestEntity.getBody() instanceof Resource
+                ? uploadRest
+                : rest;
+
+        try {
+            if (parameters != null && !parameters.isEmpty()) {
+                return template.exchange(path, method, requestEntity, byte[].class, parameters);
+            }
+            return template.exchange(path, method, requestEntity, byte[].class);
+        } catch (HttpStatusCodeException e) {
+            return ResponseEntity
+                    .status(e.getStatusCode())
+                    .headers(e.getResponseHeaders())
+                    .body(e.getResponseBodyAsByteArray());
+        }
+    }
+
+    /**
+     * Тело ответа сервера, копируемое клиенту шлюза. Если копирование не началось или не дошло до конца
+     * (клиент отключился, истёк таймаут асинхронной обработки), {@link #close()} обрывает соединение
+     * с сервером, не дочитывая остаток ответа, и оно не остаётся занятым в пуле.
+     */
+    private static class ServerResponseBody implements StreamingResponseBody, Closeable {
+
+        private final ClientHttpResponse response;
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private volatile boolean copied;
+
+        ServerResponseBody(ClientHttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void writeTo(OutputStream output) throws IOException {
+            try {
+                StreamUtils.copy(response.getBody(), output);
+                copied = true;
+            } finally {
+                close();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                InputStream body = response.getBody();
+                if (!copied && body instanceof ConnectionReleaseTrigger) {
+                    ((ConnectionReleaseTrigger) body).abortConnection();
+                }
+            } finally {
+                response.close();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.client;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Блокирующие транспорты на {@code RestTemplate}. Все клиенты используют один пул соединений Apache HttpClient.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit-server.client.mode", havingValue = "blocking", matchIfMissing = true)
+@EnableConfigurationProperties(ServerClientProperties.class)
+public class RestTemplateTransportFactory implements ServerTransportFactory, DisposableBean {
+
+    private final String serverUrl;
+
+    private final RestTemplateBuilder builder;
+
+    private final CloseableHttpClient httpClient;
+
+    public RestTemplateTransportFactory(@Value("${shareit-server.url}") String serverUrl,
+                                        RestTemplateBuilder builder,
+                                        ServerClientProperties properties) {
+        this.serverUrl = serverUrl;
+        this.builder = builder;
+        this.httpClient = createHttpClient(properties);
+    }
+
+    @Override
+    public ServerTransport create(String apiPrefix) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        HttpComponentsClientHttpRequestFactory uploadRequestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        // Тело загрузки пишется в соединение сразу, иначе файл целиком копировался бы в память шлюза.
+        // Небольшие JSON-тела остаются буферизованными и уходят с Content-Length, а не по частям.
+        uploadRequestFactory.setBufferRequestBody(false);
+
+        return new RestTemplateTransport(
+                build(apiPrefix, requestFactory),
+                build(apiPrefix, uploadRequestFactory)
+        );
+    }
+
+    private RestTemplate build(String apiPrefix, ClientHttpRequestFactory requestFactory) {
+        return builder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + apiPrefix))
+                .requestFactory(() -> requestFactory)
+                .build();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+
+    private static CloseableHttpClient createHttpClient(ServerClientProperties properties) {
+        long keepAlive = properties.getKeepAlive().toMillis();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(properties.getMaxConnections());
+        // Все запросы идут на один сервер, поэтому ограничение на маршрут совпадает с общим.
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxConnections());
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+                .setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis())
+                .setSocketTimeout((int) properties.getReadTimeout().toMillis())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return duration > 0 ? Math.min(duration, keepAlive) : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive, TimeUnit.MILLISECONDS)
+                .disableCookieManagement()
+                .build();
+    }
+
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ставит перед стандартными обработчиками {@link CloseableBodyReturnValueHandler}, а в блокирующем
+ * режиме ещё и {@link BlockingMonoReturnValueHandler}: иначе {@code Mono} перехватил бы стандартный
+ * обработчик реактивных типов. В реактивном режиме {@code Mono} обрабатывается стандартно, а
+ * полученный {@code ResponseEntity} при повторной диспетчеризации попадает в тот же обработчик тела.
+ */
+@Configuration
+public class ReturnValueHandlersConfig {
+
+    @Bean
+    public SmartInitializingSingleton returnValueHandlersRegistrar(RequestMappingHandlerAdapter adapter,
+                                                                   @Value("${shareit-server.client.mode:blocking}") String mode) {
+        return () -> {
+            List<HandlerMethodReturnValueHandler> defaultHandlers = adapter.getReturnValueHandlers();
+            HandlerMethodReturnValueHandler closeableBodyHandler = new CloseableBodyReturnValueHandler(
+                    new HandlerMethodReturnValueHandlerComposite().addHandlers(defaultHandlers));
+
+            List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>();
+            if ("blocking".equals(mode)) {
+                handlers.add(new BlockingMonoReturnValueHandler(
+                        new HandlerMethodReturnValueHandlerComposite()
+                                .addHandler(closeableBodyHandler)
+                                .addHandlers(defaultHandlers)));
+            }
+            handlers.add(closeableBodyHandler);
+            handlers.addAll(defaultHandlers);
+            adapter.setReturnValueHandlers(handlers);
+        };
+    }
+
+}
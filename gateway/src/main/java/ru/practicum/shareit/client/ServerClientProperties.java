@@ -0,0 +1,43 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки пула соединений шлюза с сервером, общего для всех клиентов.
+ */
+@ConfigurationProperties(prefix = "shareit-server.client")
+@Getter
+@Setter
+public class ServerClientProperties {
+
+    /**
+     * Максимальное число открытых соединений с сервером.
+     */
+    private int maxConnections = 200;
+
+    /**
+     * Время ожидания установки соединения.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Время ожидания свободного соединения из пула. Когда пул исчерпан, запрос завершается
+     * ошибкой по истечении этого времени, а не ждёт бесконечно.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Время ожидания ответа сервера.
+     */
+    private Duration readTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Время, в течение которого простаивающее соединение остаётся в пуле.
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Отправка запроса к одному разделу API сервера. Ответ с любым статусом возвращается как есть,
+ * без исключения; тело ответа не разбирается и возвращается массивом байтов.
+ */
+public interface ServerTransport {
+
+    <T> Mono<ResponseEntity<byte[]>> exchange(HttpMethod method,
+                                              String path,
+                                              @Nullable Map<String, Object> parameters,
+                                              HttpHeaders headers,
+                                              @Nullable T body);
+
+    /**
+     * Запрос без тела, ответ на который не читается заранее: статус и заголовки возвращаются сразу,
+     * а тело копируется в выходной поток клиента шлюза по мере получения от сервера.
+     */
+    Mono<ResponseEntity<StreamingResponseBody>> exchangeStreaming(HttpMethod method,
+                                                                  String path,
+                                                                  @Nullable Map<String, Object> parameters,
+                                                                  HttpHeaders headers);
+
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.client;
+
+/**
+ * Создаёт транспорты для разделов API сервера поверх общего пула соединений.
+ * Реализация выбирается свойством {@code shareit-server.client.mode}: {@code blocking} (по умолчанию)
+ * или {@code reactive}.
+ */
+public interface ServerTransportFactory {
+
+    ServerTransport create(String apiPrefix);
+
+}
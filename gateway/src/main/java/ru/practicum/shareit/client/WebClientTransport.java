@@ -0,0 +1,106 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.Closeable;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class WebClientTransport implements ServerTransport {
+
+    private final WebClient webClient;
+
+    WebClientTransport(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<byte[]>> exchange(HttpMethod method,
+                                                     String path,
+                                                     @Nullable Map<String, Object> parameters,
+                                                     HttpHeaders headers,
+                                                     @Nullable T body) {
+        WebClient.RequestBodySpec request = webClient
+                .method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(requestHeaders -> requestHeaders.addAll(headers));
+
+        WebClient.RequestHeadersSpec<?> requestWithBody = body != null
+                ? request.bodyValue(body)
+                : request;
+
+        return requestWithBody.exchangeToMono(response -> response.toEntity(byte[].class));
+    }
+
+    /**
+     * Ответ с любым статусом считается успешным. Тело копируется в поток записи ответа шлюза,
+     * который блокируется до получения всех частей: запись идёт в отдельном потоке Spring MVC.
+     * Как и в {@link RestTemplateTransport}, тело реализует {@link Closeable}: обработчик ответа шлюза
+     * закрывает его по завершении асинхронной обработки, даже если копирование так и не началось.
+     */
+    @Override
+    public Mono<ResponseEntity<StreamingResponseBody>> exchangeStreaming(HttpMethod method,
+                                                                         String path,
+                                                                         @Nullable Map<String, Object> parameters,
+                                                                         HttpHeaders headers) {
+        return webClient
+                .method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(requestHeaders -> requestHeaders.addAll(headers))
+                .retrieve()
+                .onStatus(status -> true, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .map(response -> ResponseEntity
+                        .status(response.getStatusCodeValue())
+                        .headers(response.getHeaders())
+                        .body(new ServerResponseBody(response.getBody())));
+    }
+
+    /**
+     * Тело ответа сервера, копируемое клиенту шлюза. Пока на него никто не подписался, соединение
+     * с сервером остаётся занятым. Если копирование так и не началось, {@link #close()} подписывается
+     * на тело и сразу отменяет подписку: уже полученные части освобождаются, а соединение закрывается,
+     * не дочитывая остаток ответа. Начавшееся копирование при ошибке записи отменяет подписку само.
+     */
+    private static class ServerResponseBody implements StreamingResponseBody, Closeable {
+
+        private final Flux<DataBuffer> body;
+
+        private final AtomicBoolean subscribed = new AtomicBoolean();
+
+        ServerResponseBody(Flux<DataBuffer> body) {
+            this.body = body;
+        }
+
+        @Override
+        public void writeTo(OutputStream output) {
+            if (!subscribed.compareAndSet(false, true)) {
+                throw new IllegalStateException("Тело ответа сервера уже прочитано или закрыто");
+            }
+            DataBufferUtils
+                    .write(body, output)
+                    .map(DataBufferUtils::release)
+                    .then()
+                    .block();
+        }
+
+        @Override
+        public void close() {
+            if (subscribed.compareAndSet(false, true)) {
+                body.subscribe(DataBufferUtils.releaseConsumer()).dispose();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,56 @@
+package ru.practicum.shareit.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Неблокирующие транспорты на {@code WebClient} и Reactor Netty. Поток обработки запроса шлюза
+ * освобождается на время ожидания ответа сервера. Все клиенты используют один пул соединений.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit-server.client.mode", havingValue = "reactive")
+@EnableConfigurationProperties(ServerClientProperties.class)
+public class WebClientTransportFactory implements ServerTransportFactory, DisposableBean {
+
+    private final String serverUrl;
+
+    private final WebClient.Builder builder;
+
+    private final ConnectionProvider connectionProvider;
+
+    public WebClientTransportFactory(@Value("${shareit-server.url}") String serverUrl,
+                                     WebClient.Builder builder,
+                                     ServerClientProperties properties) {
+        this.serverUrl = serverUrl;
+        this.connectionProvider = ConnectionProvider.builder("shareit-server")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getKeepAlive())
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout());
+
+        this.builder = builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+
+    @Override
+    public ServerTransport create(String apiPrefix) {
+        return new WebClientTransport(builder.clone().baseUrl(serverUrl + apiPrefix).build());
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
+    }
+
+}
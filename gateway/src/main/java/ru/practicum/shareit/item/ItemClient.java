@@ -1,16 +1,19 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerTransportFactory;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Service
@@ -19,32 +22,43 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemClient(ServerTransportFactory transportFactory, ResponseCache responseCache) {
+        super(transportFactory.create(API_PREFIX), responseCache, ResponseCache.ITEMS, ResponseCache.REQUESTS);
     }
 
-    public ResponseEntity<Object> addItem(long userId, ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> addItem(long userId, ItemDto itemDto) {
         return post("", userId, itemDto);
     }
 
-    public ResponseEntity<Object> getItem(long userId, long itemId) {
-        return get("/" + itemId, userId);
+    public Mono<ResponseEntity<Object>> importItems(long userId, MediaType contentType, InputStream body) {
+        return postStream("/import", userId, contentType, body);
+    }
+
+    public Mono<ResponseEntity<StreamingResponseBody>> exportItems(long userId, String format) {
+        return getStream("/export?format={format}", userId, Map.of("format", format));
     }
 
-    public ResponseEntity<Object> updateItem(long userId, long itemId, ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> getItem(long userId, long itemId) {
+        return cachedGet(ResponseCache.ITEMS, "/" + itemId, userId, true, null);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemAvailability(long userId, long itemId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> updateItem(long userId, long itemId, ItemDto itemDto) {
         return patch("/" + itemId, userId, itemDto);
     }
 
-    public void removeItem(long userId, long itemId) {
-        delete("/" + itemId, userId);
+    public Mono<Void> removeItem(long userId, long itemId) {
+        return delete("/" + itemId, userId).then();
     }
 
-    public ResponseEntity<Object> getItemsByOwnerId(long userId, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getItemsByOwnerId(long userId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -52,16 +66,33 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> searchItems(long userId, String text, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> searchItems(long userId, String text, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "text", text,
                 "from", from,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+        return cachedGet(ResponseCache.ITEMS, "/search?text={text}&from={from}&size={size}", userId, false, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemsByOwnerIdAfter(long userId, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size
+        );
+        return get("?cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> searchItemsAfter(long userId, String text, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "cursor", cursor,
+                "size", size
+        );
+        return cachedGet(ResponseCache.ITEMS, "/search?text={text}&cursor={cursor}&size={size}", userId, false, parameters);
     }
 
-    public ResponseEntity<Object> addComment(long authorId, long itemId, CommentDto commentDto) {
+    public Mono<ResponseEntity<Object>> addComment(long authorId, long itemId, CommentDto commentDto) {
         return post("/" + itemId + "/comment", authorId, commentDto);
     }
 
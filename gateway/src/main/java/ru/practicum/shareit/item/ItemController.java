@@ -2,17 +2,25 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.Constants;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.io.IOException;
+import java.time.LocalDateTime;
 
 @Controller
 @RequestMapping(path = "/items")
@@ -24,55 +32,93 @@ public class ItemController {
     private final ItemClient itemClient;
 
     @PostMapping
-    public ResponseEntity<Object> addItem(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                                          @Valid @RequestBody ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> addItem(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                @Valid @RequestBody ItemDto itemDto) {
         log.info("Create item {}, userId={}", itemDto, userId);
         return itemClient.addItem(userId, itemDto);
     }
 
+    /**
+     * Файл импорта не разбирается шлюзом: тело запроса передаётся серверу потоком.
+     */
+    @PostMapping(path = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public Mono<ResponseEntity<Object>> importItems(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                    @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                    HttpServletRequest request) throws IOException {
+        log.info("Import items, contentType={}, userId={}", contentType, userId);
+        return itemClient.importItems(userId, contentType, request.getInputStream());
+    }
+
+    @GetMapping("/export")
+    public Mono<ResponseEntity<StreamingResponseBody>> exportItems(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                                   @RequestParam(name = "format", defaultValue = "jsonl") String format) {
+        log.info("Export items, format={}, userId={}", format, userId);
+        return itemClient.exportItems(userId, format);
+    }
+
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> getItem(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                                          @PathVariable long itemId) {
+    public Mono<ResponseEntity<Object>> getItem(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                @PathVariable long itemId) {
         log.info("Get item {}, userId={}", itemId, userId);
         return itemClient.getItem(userId, itemId);
     }
 
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<Object>> getItemAvailability(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                            @PathVariable long itemId,
+                                                            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Get item availability {}, from={}, to={}, userId={}", itemId, from, to, userId);
+        return itemClient.getItemAvailability(userId, itemId, from, to);
+    }
+
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> updateItem(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                                             @PathVariable long itemId,
-                                             @RequestBody ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> updateItem(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                   @PathVariable long itemId,
+                                                   @RequestBody ItemDto itemDto) {
         log.info("Update item {}, itemId={}, userId={}", itemDto, itemId, userId);
         return itemClient.updateItem(userId, itemId, itemDto);
     }
 
     @DeleteMapping("/{itemId}")
-    public void removeItem(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                           @PathVariable long itemId) {
+    @ResponseBody
+    public Mono<Void> removeItem(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                 @PathVariable long itemId) {
         log.info("Remove item {}, userId={}", itemId, userId);
-        itemClient.removeItem(userId, itemId);
+        return itemClient.removeItem(userId, itemId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getItemsByOwnerId(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                                                    @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                                    @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+    public Mono<ResponseEntity<Object>> getItemsByOwnerId(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                          @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                          @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                          @RequestParam(name = "cursor", required = false) String cursor) {
+        if (cursor != null) {
+            log.info("Get items by owner id, cursor={}, size={}, userId={}", cursor, size, userId);
+            return itemClient.getItemsByOwnerIdAfter(userId, cursor, size);
+        }
         log.info("Get items by owner id, from={}, size={}, userId={}", from, size, userId);
         return itemClient.getItemsByOwnerId(userId, from, size);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItems(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                                              @RequestParam(name = "text") String text,
-                                              @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+    public Mono<ResponseEntity<Object>> searchItems(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                    @RequestParam(name = "text") String text,
+                                                    @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                    @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                    @RequestParam(name = "cursor", required = false) String cursor) {
+        if (cursor != null) {
+            log.info("Search items, text={}, cursor={}, size={}, userId={}", text, cursor, size, userId);
+            return itemClient.searchItemsAfter(userId, text, cursor, size);
+        }
         log.info("Search items, text={}, from={}, size={}, userId={}", text, from, size, userId);
         return itemClient.searchItems(userId, text, from, size);
     }
 
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
-                                             @PathVariable long itemId,
-                                             @Valid @RequestBody CommentDto commentDto) {
+    public Mono<ResponseEntity<Object>> addComment(@RequestHeader(Constants.UserIdRequestHeaderName) long userId,
+                                                   @PathVariable long itemId,
+                                                   @Valid @RequestBody CommentDto commentDto) {
         log.info("Create comment {}, itemId={}, userId={}", commentDto, itemId, userId);
         return itemClient.addComment(userId, itemId, commentDto);
     }
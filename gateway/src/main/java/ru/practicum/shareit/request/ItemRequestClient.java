@@ -1,13 +1,12 @@
 package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerTransportFactory;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.Map;
@@ -18,33 +17,36 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemRequestClient(ServerTransportFactory transportFactory, ResponseCache responseCache) {
+        super(transportFactory.create(API_PREFIX), responseCache, ResponseCache.REQUESTS);
     }
 
-    public ResponseEntity<Object> addItemRequest(long userId, ItemRequestDto itemRequestDto) {
+    public Mono<ResponseEntity<Object>> addItemRequest(long userId, ItemRequestDto itemRequestDto) {
         return post("", userId, itemRequestDto);
     }
 
-    public ResponseEntity<Object> getItemRequest(long userId, Long requestId) {
-        return get("/" + requestId, userId);
+    public Mono<ResponseEntity<Object>> getItemRequest(long userId, Long requestId) {
+        return cachedGet(ResponseCache.REQUESTS, "/" + requestId, userId, true, null);
     }
 
-    public ResponseEntity<Object> getItemRequestsByRequesterId(long userId) {
-        return get("", userId);
+    public Mono<ResponseEntity<Object>> getItemRequestsByRequesterId(long userId) {
+        return cachedGet(ResponseCache.REQUESTS, "", userId, true, null);
     }
 
-    public ResponseEntity<Object> getItemRequests(long userId, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getItemRequests(long userId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
         );
-        return get("/all?from={from}&size={size}", userId, parameters);
+        return cachedGet(ResponseCache.REQUESTS, "/all?from={from}&size={size}", userId, true, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemRequestsAfter(long userId, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size
+        );
+        return cachedGet(ResponseCache.REQUESTS, "/all?cursor={cursor}&size={size}", userId, true, parameters);
     }
 
 }
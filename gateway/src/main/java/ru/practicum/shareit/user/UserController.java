@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import javax.validation.Valid;
@@ -20,33 +21,33 @@ public class UserController {
     private final UserClient userClient;
 
     @PostMapping
-    public ResponseEntity<Object> addUser(@Valid @RequestBody UserDto userDto) {
+    public Mono<ResponseEntity<Object>> addUser(@Valid @RequestBody UserDto userDto) {
         log.info("Create user {}", userDto);
         return userClient.addUser(userDto);
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> getUser(@PathVariable long userId) {
+    public Mono<ResponseEntity<Object>> getUser(@PathVariable long userId) {
         log.info("Get user {}", userId);
         return userClient.getUser(userId);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> updateUser(@PathVariable long userId,
-                                             @RequestBody UserDto userDto) {
+    public Mono<ResponseEntity<Object>> updateUser(@PathVariable long userId,
+                                                   @RequestBody UserDto userDto) {
         log.info("Update user {}, userId={}", userDto, userId);
         return userClient.updateUser(userId, userDto);
     }
 
     @DeleteMapping("/{userId}")
     @ResponseBody
-    public void removeUser(@PathVariable long userId) {
+    public Mono<Void> removeUser(@PathVariable long userId) {
         log.info("Remove user {}", userId);
-        userClient.removeUser(userId);
+        return userClient.removeUser(userId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getUsers() {
+    public Mono<ResponseEntity<Object>> getUsers() {
         log.info("Get users");
         return userClient.getUsers();
     }
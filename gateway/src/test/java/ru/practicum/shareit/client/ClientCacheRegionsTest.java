@@ -0,0 +1,124 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.request.ItemRequestClient;
+import ru.practicum.shareit.user.UserClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+@SpringBootTest
+public class ClientCacheRegionsTest {
+
+    @Mock
+    private ServerTransportFactory transportFactory;
+    @Mock
+    private ServerTransport transport;
+
+    private ItemClient itemClient;
+
+    private ItemRequestClient itemRequestClient;
+
+    private BookingClient bookingClient;
+
+    private UserClient userClient;
+
+    @BeforeEach
+    public void setUp() {
+        openMocks(this);
+
+        when(transportFactory.create(anyString()))
+                .thenReturn(transport);
+        when(transport.exchange(any(), anyString(), any(), any(), any()))
+                .thenReturn(Mono.just(ResponseEntity.ok("{}".getBytes(StandardCharsets.UTF_8))));
+
+        var responseCache = new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry());
+        itemClient = new ItemClient(transportFactory, responseCache);
+        itemRequestClient = new ItemRequestClient(transportFactory, responseCache);
+        bookingClient = new BookingClient(transportFactory, responseCache);
+        userClient = new UserClient(transportFactory, responseCache);
+    }
+
+    @Test
+    public void getItem_repeated_isServedFromCache() {
+        // Act
+        itemClient.getItem(1L, 1L).block();
+        itemClient.getItem(1L, 1L).block();
+
+        // Assert
+        verify(transport, times(1)).exchange(eq(HttpMethod.GET), eq("/1"), any(), any(), any());
+    }
+
+    @Test
+    public void addBooking_invalidatesCachedItems() {
+        // Arrange
+        itemClient.getItem(1L, 1L).block();
+
+        // Act
+        bookingClient.addBooking(2L, new BookingDto(1L, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2))).block();
+        itemClient.getItem(1L, 1L).block();
+
+        // Assert
+        verify(transport, times(2)).exchange(eq(HttpMethod.GET), eq("/1"), any(), any(), any());
+    }
+
+    @Test
+    public void addBooking_keepsCachedItemRequests() {
+        // Arrange
+        itemRequestClient.getItemRequest(1L, 1L).block();
+
+        // Act
+        bookingClient.addBooking(2L, new BookingDto(1L, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2))).block();
+        itemRequestClient.getItemRequest(1L, 1L).block();
+
+        // Assert
+        verify(transport, times(1)).exchange(eq(HttpMethod.GET), eq("/1"), any(), any(), any());
+    }
+
+    @Test
+    public void updateUser_invalidatesCachedItemsAndItemRequests() {
+        // Arrange
+        itemClient.getItem(1L, 1L).block();
+        itemRequestClient.getItemRequest(1L, 2L).block();
+
+        // Act
+        userClient.updateUser(1L, new UserDto("New Name", null)).block();
+        itemClient.getItem(1L, 1L).block();
+        itemRequestClient.getItemRequest(1L, 2L).block();
+
+        // Assert
+        verify(transport, times(2)).exchange(eq(HttpMethod.GET), eq("/1"), any(), any(), any());
+        verify(transport, times(2)).exchange(eq(HttpMethod.GET), eq("/2"), any(), any(), any());
+    }
+
+    @Test
+    public void removeUser_invalidatesCachedItems() {
+        // Arrange
+        itemClient.getItem(1L, 1L).block();
+
+        // Act
+        userClient.removeUser(2L).block();
+        itemClient.getItem(1L, 1L).block();
+
+        // Assert
+        verify(transport, times(2)).exchange(eq(HttpMethod.GET), eq("/1"), any(), any(), any());
+    }
+
+}
@@ -0,0 +1,110 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class ResponseCacheTest {
+
+    private ResponseCache responseCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        responseCache = new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry());
+        loads.set(0);
+    }
+
+    @Test
+    public void get_withSuccessfulResponse_loadsOnce() {
+        // Act
+        var first = responseCache.get(ResponseCache.ITEMS, "key", () -> load(HttpStatus.OK)).block();
+        var second = responseCache.get(ResponseCache.ITEMS, "key", () -> load(HttpStatus.OK)).block();
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void get_withErrorResponse_doesNotCache() {
+        // Act
+        responseCache.get(ResponseCache.ITEMS, "key", () -> load(HttpStatus.NOT_FOUND)).block();
+        responseCache.get(ResponseCache.ITEMS, "key", () -> load(HttpStatus.NOT_FOUND)).block();
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_afterRegionInvalidated_loadsAgain() {
+        // Arrange
+        responseCache.get(ResponseCache.ITEMS, "key", () -> load(HttpStatus.OK)).block();
+
+        // Act
+        responseCache.invalidate(ResponseCache.ITEMS);
+        responseCache.get(ResponseCache.ITEMS, "key", () -> load(HttpStatus.OK)).block();
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_afterOtherRegionInvalidated_returnsCachedResponse() {
+        // Arrange
+        responseCache.get(ResponseCache.ITEMS, "key", () -> load(HttpStatus.OK)).block();
+
+        // Act
+        responseCache.invalidate(ResponseCache.REQUESTS);
+        responseCache.get(ResponseCache.ITEMS, "key", () -> load(HttpStatus.OK)).block();
+
+        // Assert
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void get_withInvalidationDuringLoad_doesNotCacheStaleResponse() {
+        // Arrange
+        var response = responseCache.get(ResponseCache.ITEMS, "key", () -> {
+            responseCache.invalidate(ResponseCache.ITEMS);
+            return load(HttpStatus.OK);
+        });
+
+        // Act
+        response.block();
+        responseCache.get(ResponseCache.ITEMS, "key", () -> load(HttpStatus.OK)).block();
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_withCacheDisabled_alwaysLoads() {
+        // Arrange
+        var properties = new ResponseCacheProperties();
+        properties.setEnabled(false);
+        responseCache = new ResponseCache(properties, new SimpleMeterRegistry());
+
+        // Act
+        responseCache.get(ResponseCache.ITEMS, "key", () -> load(HttpStatus.OK)).block();
+        responseCache.get(ResponseCache.ITEMS, "key", () -> load(HttpStatus.OK)).block();
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    private Mono<ResponseEntity<Object>> load(HttpStatus status) {
+        return Mono.fromSupplier(() -> ResponseEntity.status(status).body("response " + loads.incrementAndGet()));
+    }
+
+}
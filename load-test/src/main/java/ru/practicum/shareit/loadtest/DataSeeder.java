@@ -0,0 +1,211 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Заполняет схему, созданную миграциями сервера, пакетными вставками JDBC.
+ * Генератор случайных чисел с фиксированным зерном: при одинаковых параметрах данные одинаковые.
+ */
+@Slf4j
+class DataSeeder {
+
+    static final List<String> WORDS = List.of(
+            "дрель", "отвёртка", "перфоратор", "лестница", "палатка", "велосипед", "самокат", "гитара",
+            "проектор", "камера", "штатив", "пылесос", "утюг", "мангал", "лодка", "удочка",
+            "рюкзак", "спальник", "коньки", "лыжи", "ролики", "сноуборд", "шуруповёрт", "болгарка",
+            "аккумуляторная", "электрическая", "складная", "туристическая", "детская", "профессиональная",
+            "drill", "tent", "bike", "camera", "guitar", "projector", "ladder", "kayak");
+
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * Бронирования раскладываются по дневным слотам в пределах года до и года после момента заполнения,
+     * чтобы в выборках были и прошедшие, и текущие, и будущие бронирования.
+     */
+    private static final int SLOTS = 730;
+
+    private static final String[] STATUSES = {"WAITING", "APPROVED", "APPROVED", "APPROVED", "REJECTED", "CANCELLED"};
+
+    private final DataSource dataSource;
+
+    private final LoadTestConfig config;
+
+    private final Random random = new Random(42);
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+
+    DataSeeder(DataSource dataSource, LoadTestConfig config) {
+        this.dataSource = dataSource;
+        this.config = config;
+    }
+
+    void seed() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            seedUsers(connection);
+            seedRequests(connection);
+            int[] owners = seedItems(connection);
+            seedBookings(connection, owners);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("INSERT INTO item_booking_stats (item_id, waiting, approved, rejected, cancelled) "
+                        + "SELECT i.id, "
+                        + "COUNT(CASE WHEN b.status = 'WAITING' THEN 1 END), "
+                        + "COUNT(CASE WHEN b.status = 'APPROVED' THEN 1 END), "
+                        + "COUNT(CASE WHEN b.status = 'REJECTED' THEN 1 END), "
+                        + "COUNT(CASE WHEN b.status = 'CANCELLED' THEN 1 END) "
+                        + "FROM items i LEFT JOIN bookings b ON b.item_id = i.id GROUP BY i.id");
+
+                for (String table : List.of("users", "requests", "items", "bookings")) {
+                    statement.execute("SELECT setval('" + table + "_seq', "
+                            + "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + "), false)");
+                }
+                statement.execute("ANALYZE");
+            }
+
+            connection.commit();
+        }
+
+        log.info("Seeded users={}, requests={}, items={}, bookings={}",
+                config.getUsers(), config.getRequests(), config.getItems(), config.getBookings());
+    }
+
+    private void seedUsers(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (id, name, email) VALUES (?, ?, ?)")) {
+            for (int id = 1; id <= config.getUsers(); id++) {
+                statement.setLong(1, id);
+                statement.setString(2, "User " + id);
+                statement.setString(3, "user" + id + "@mail.com");
+                addBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void seedRequests(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO requests (id, description, requester_id, created) VALUES (?, ?, ?, ?)")) {
+            for (int id = 1; id <= config.getRequests(); id++) {
+                statement.setLong(1, id);
+                statement.setString(2, "Нужна " + words(2));
+                statement.setLong(3, randomUser());
+                statement.setTimestamp(4, Timestamp.valueOf(now.minusMinutes(random.nextInt(SLOTS * 24 * 60 / 2))));
+                addBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Заполняет вещи и возвращает их владельцев: индекс массива — идентификатор вещи.
+     */
+    private int[] seedItems(Connection connection) throws SQLException {
+        int[] owners = new int[config.getItems() + 1];
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO items (id, name, description, is_available, owner_id, request_id) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= config.getItems(); id++) {
+                owners[id] = randomUser();
+                statement.setLong(1, id);
+                statement.setString(2, words(2));
+                statement.setString(3, words(8));
+                statement.setBoolean(4, random.nextInt(10) > 0);
+                statement.setLong(5, owners[id]);
+
+                if (config.getRequests() > 0 && random.nextInt(10) == 0) {
+                    statement.setLong(6, 1 + random.nextInt(config.getRequests()));
+                } else {
+                    statement.setObject(6, null);
+                }
+
+                addBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+
+        return owners;
+    }
+
+    /**
+     * Подтверждённые бронирования одной вещи не должны пересекаться, поэтому каждое занимает свой слот.
+     * Если свободных слотов у вещи не осталось, бронирование получает слот без проверки и статус ожидания.
+     */
+    private void seedBookings(Connection connection, int[] owners) throws SQLException {
+        BitSet[] usedSlots = new BitSet[config.getItems() + 1];
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= config.getBookings(); id++) {
+                int itemId = 1 + random.nextInt(config.getItems());
+                BitSet slots = usedSlots[itemId] == null
+                        ? usedSlots[itemId] = new BitSet(SLOTS)
+                        : usedSlots[itemId];
+
+                int slot = slots.nextClearBit(random.nextInt(SLOTS));
+                String status = STATUSES[random.nextInt(STATUSES.length)];
+
+                if (slot >= SLOTS) {
+                    slot = random.nextInt(SLOTS);
+                    status = "WAITING";
+                } else {
+                    slots.set(slot);
+                }
+
+                int booker = randomUser();
+                if (booker == owners[itemId]) {
+                    booker = booker % config.getUsers() + 1;
+                }
+
+                LocalDateTime start = now.minusDays(SLOTS / 2).plusDays(slot).plusHours(random.nextInt(12));
+                statement.setLong(1, id);
+                statement.setTimestamp(2, Timestamp.valueOf(start));
+                statement.setTimestamp(3, Timestamp.valueOf(start.plusHours(1 + random.nextInt(12))));
+                statement.setLong(4, itemId);
+                statement.setLong(5, booker);
+                statement.setString(6, status);
+                addBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void addBatch(PreparedStatement statement, int count) throws SQLException {
+        statement.addBatch();
+
+        if (count % BATCH_SIZE == 0) {
+            statement.executeBatch();
+        }
+    }
+
+    private int randomUser() {
+        return 1 + random.nextInt(config.getUsers());
+    }
+
+    private String words(int count) {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+
+        return builder.toString();
+    }
+
+}
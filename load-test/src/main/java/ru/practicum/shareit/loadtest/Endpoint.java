@@ -0,0 +1,77 @@
+package ru.practicum.shareit.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Запросы смеси нагрузки. Вес — доля запроса в процентах.
+ */
+enum Endpoint {
+
+    SEARCH_ITEMS(40) {
+        @Override
+        String path(ThreadLocalRandom random) {
+            String word = DataSeeder.WORDS.get(random.nextInt(DataSeeder.WORDS.size()));
+            String text = random.nextBoolean() ? word : word.substring(0, Math.min(4, word.length()));
+            return "/items/search?text=" + URLEncoder.encode(text, StandardCharsets.UTF_8) + "&from=0&size=20";
+        }
+    },
+
+    BOOKER_BOOKINGS(20) {
+        @Override
+        String path(ThreadLocalRandom random) {
+            return "/bookings?state=" + randomState(random) + "&from=0&size=20";
+        }
+    },
+
+    OWNER_BOOKINGS(10) {
+        @Override
+        String path(ThreadLocalRandom random) {
+            return "/bookings/owner?state=" + randomState(random) + "&from=0&size=20";
+        }
+    },
+
+    OWNER_ITEMS(20) {
+        @Override
+        String path(ThreadLocalRandom random) {
+            return "/items?from=0&size=20";
+        }
+    },
+
+    ALL_REQUESTS(10) {
+        @Override
+        String path(ThreadLocalRandom random) {
+            return "/requests/all?from=0&size=20";
+        }
+    };
+
+    private static final String[] STATES = {"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"};
+
+    private final int weight;
+
+    Endpoint(int weight) {
+        this.weight = weight;
+    }
+
+    abstract String path(ThreadLocalRandom random);
+
+    static Endpoint next(ThreadLocalRandom random) {
+        int roll = random.nextInt(100);
+
+        for (Endpoint endpoint : values()) {
+            roll -= endpoint.weight;
+
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+
+        return SEARCH_ITEMS;
+    }
+
+    private static String randomState(ThreadLocalRandom random) {
+        return STATES[random.nextInt(STATES.length)];
+    }
+
+}
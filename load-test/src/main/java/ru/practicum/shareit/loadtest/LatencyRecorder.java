@@ -0,0 +1,67 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Задержки одного вида запроса в наносекундах. Экземпляр принадлежит одному потоку,
+ * результаты потоков объединяются через {@link #merge(LatencyRecorder)}.
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+
+    private int size;
+
+    private int errors;
+
+    void record(long latency, boolean error) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+
+        latencies[size++] = latency;
+
+        if (error) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (size + other.size > latencies.length) {
+            latencies = Arrays.copyOf(latencies, size + other.size);
+        }
+
+        System.arraycopy(other.latencies, 0, latencies, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    int count() {
+        return size;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    /**
+     * Сортирует накопленные значения; вызывается один раз перед расчётом перцентилей.
+     */
+    void sort() {
+        Arrays.sort(latencies, 0, size);
+    }
+
+    long percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile / 100 * size) - 1;
+        return latencies[Math.max(0, Math.min(index, size - 1))];
+    }
+
+    long max() {
+        return size == 0 ? 0 : latencies[size - 1];
+    }
+
+}
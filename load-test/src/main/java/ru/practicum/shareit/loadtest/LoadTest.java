@@ -0,0 +1,52 @@
+package ru.practicum.shareit.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Нагрузочный прогон: поднимает встроенный PostgreSQL, запускает собранные jar сервера и шлюза,
+ * заполняет базу и прогоняет смесь запросов через шлюз. Сначала выполняется прогрев, его результаты
+ * отбрасываются, затем замер, итоги которого печатаются в стандартный вывод.
+ */
+@Slf4j
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        String serverUrl = "http://localhost:" + config.getServerPort();
+        String gatewayUrl = "http://localhost:" + config.getGatewayPort();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            log.info("Starting server, jar={}", config.getServerJar());
+            try (ServiceProcess server = ServiceProcess.start("server", config.getServerJar(), config.getServerPort(), config,
+                    List.of(
+                            "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                            "--spring.datasource.username=postgres",
+                            "--spring.datasource.password=postgres"))) {
+                new DataSeeder(postgres.getPostgresDatabase(), config).seed();
+
+                log.info("Starting gateway, jar={}", config.getGatewayJar());
+                try (ServiceProcess gateway = ServiceProcess.start("gateway", config.getGatewayJar(), config.getGatewayPort(), config,
+                        List.of(
+                                "--shareit-server.url=" + serverUrl,
+                                "--logging.level.org.springframework.web.client.RestTemplate=info"))) {
+                    Workload workload = new Workload(config, gatewayUrl);
+
+                    int warmUpConcurrency = config.getConcurrencyLevels().get(0);
+                    log.info("Warming up for {}, concurrency={}", config.getWarmUp(), warmUpConcurrency);
+                    workload.run(warmUpConcurrency, config.getWarmUp());
+
+                    for (int concurrency : config.getConcurrencyLevels()) {
+                        log.info("Measuring for {}, concurrency={}", config.getDuration(), concurrency);
+                        System.out.printf("%nconcurrency=%d, threads=%s, jvm-args=%s%n", concurrency,
+                                config.isVirtualThreads() ? "virtual" : "platform", config.getJvmArgs());
+                        workload.run(concurrency, config.getDuration()).print(System.out);
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Параметры прогона. Задаются системными свойствами {@code loadtest.*}, например
+ * {@code -Dloadtest.items=100000 -Dloadtest.concurrency=64}. В {@code loadtest.concurrency} можно перечислить
+ * несколько уровней через запятую, чтобы найти предел пропускной способности, а {@code loadtest.jvm-args}
+ * задаёт одинаковые ограничения памяти для сравнения режимов потоков.
+ */
+@AllArgsConstructor
+@Getter
+class LoadTestConfig {
+
+    private static final String PREFIX = "loadtest.";
+
+    private final int users;
+
+    private final int items;
+
+    private final int bookings;
+
+    private final int requests;
+
+    private final List<Integer> concurrencyLevels;
+
+    private final Duration warmUp;
+
+    private final Duration duration;
+
+    private final int serverPort;
+
+    private final int gatewayPort;
+
+    private final Path serverJar;
+
+    private final Path gatewayJar;
+
+    private final Path workDir;
+
+    /**
+     * Аргументы JVM сервера и шлюза, например {@code -Xmx512m}.
+     */
+    private final List<String> jvmArgs;
+
+    /**
+     * Запускать сервер и шлюз с обработкой запросов в виртуальных потоках (нужен JDK 21).
+     */
+    private final boolean virtualThreads;
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intProperty("users", 1_000),
+                intProperty("items", 10_000),
+                intProperty("bookings", 100_000),
+                intProperty("requests", 1_000),
+                Arrays.stream(System.getProperty(PREFIX + "concurrency", "32").split(","))
+                        .map(String::trim)
+                        .map(Integer::parseInt)
+                        .collect(Collectors.toList()),
+                Duration.ofSeconds(intProperty("warm-up-seconds", 15)),
+                Duration.ofSeconds(intProperty("duration-seconds", 60)),
+                intProperty("server-port", 19090),
+                intProperty("gateway-port", 18080),
+                Path.of(System.getProperty(PREFIX + "server-jar", "server/target/shareit-server-0.0.1-SNAPSHOT.jar")),
+                Path.of(System.getProperty(PREFIX + "gateway-jar", "gateway/target/shareit-gateway-0.0.1-SNAPSHOT.jar")),
+                Path.of(System.getProperty(PREFIX + "work-dir", ".")),
+                Arrays.stream(System.getProperty(PREFIX + "jvm-args", "").split("\\s+"))
+                        .filter(arg -> !arg.isEmpty())
+                        .collect(Collectors.toList()),
+                Boolean.parseBoolean(System.getProperty(PREFIX + "virtual-threads", "false")));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+}
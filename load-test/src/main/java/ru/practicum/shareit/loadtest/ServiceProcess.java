@@ -0,0 +1,94 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Приложение Spring Boot, запущенное отдельным процессом из исполняемого jar.
+ * Вывод процесса пишется в {@code <work-dir>/<name>.log}.
+ */
+class ServiceProcess implements AutoCloseable {
+
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+
+    private final String name;
+
+    private final Process process;
+
+    private ServiceProcess(String name, Process process) {
+        this.name = name;
+        this.process = process;
+    }
+
+    static ServiceProcess start(String name, Path jar, int port, LoadTestConfig config, List<String> args)
+            throws IOException, InterruptedException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Не найден jar " + jar + ", сначала соберите проект: mvn package");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add("java");
+        command.addAll(config.getJvmArgs());
+        command.addAll(List.of("-jar", jar.toString(), "--server.port=" + port,
+                "--shareit.threads.virtual=" + config.isVirtualThreads()));
+        command.addAll(args);
+
+        Path workDir = config.getWorkDir();
+        Files.createDirectories(workDir);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve(name + ".log").toFile())
+                .start();
+
+        ServiceProcess serviceProcess = new ServiceProcess(name, process);
+        serviceProcess.awaitHealthy(port);
+        return serviceProcess;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private void awaitHealthy(int port) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(Duration.ofSeconds(1))
+                .build();
+        Instant deadline = Instant.now().plus(START_TIMEOUT);
+
+        while (Instant.now().isBefore(deadline)) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Процесс " + name + " завершился с кодом " + process.exitValue());
+            }
+
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // ещё не слушает порт
+            }
+
+            Thread.sleep(500);
+        }
+
+        process.destroyForcibly();
+        throw new IllegalStateException("Процесс " + name + " не запустился за " + START_TIMEOUT);
+    }
+
+}
@@ -0,0 +1,144 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Замкнутая модель нагрузки: каждый из {@code concurrency} потоков отправляет следующий запрос
+ * сразу после ответа на предыдущий. Пользователь запроса выбирается случайно.
+ */
+class Workload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+
+    private final String baseUrl;
+
+    private final HttpClient client;
+
+    Workload(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    Result run(int concurrency, Duration duration) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        long deadline = System.nanoTime() + duration.toNanos();
+        long startedAt = System.nanoTime();
+
+        try {
+            List<Future<Map<Endpoint, LatencyRecorder>>> futures = new ArrayList<>();
+
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(() -> runWorker(deadline)));
+            }
+
+            Map<Endpoint, LatencyRecorder> merged = newRecorders();
+
+            for (Future<Map<Endpoint, LatencyRecorder>> future : futures) {
+                future.get().forEach((endpoint, recorder) -> merged.get(endpoint).merge(recorder));
+            }
+
+            return new Result(merged, Duration.ofNanos(System.nanoTime() - startedAt));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<Endpoint, LatencyRecorder> runWorker(long deadline) throws InterruptedException {
+        Map<Endpoint, LatencyRecorder> recorders = newRecorders();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = Endpoint.next(random);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path(random)))
+                    .header("X-Sharer-User-Id", String.valueOf(1 + random.nextInt(config.getUsers())))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+
+            long start = System.nanoTime();
+            boolean error;
+
+            try {
+                error = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 400;
+            } catch (IOException e) {
+                error = true;
+            }
+
+            recorders.get(endpoint).record(System.nanoTime() - start, error);
+        }
+
+        return recorders;
+    }
+
+    private static Map<Endpoint, LatencyRecorder> newRecorders() {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+
+        return recorders;
+    }
+
+    static class Result {
+
+        private final Map<Endpoint, LatencyRecorder> recorders;
+
+        private final Duration elapsed;
+
+        Result(Map<Endpoint, LatencyRecorder> recorders, Duration elapsed) {
+            this.recorders = recorders;
+            this.elapsed = elapsed;
+        }
+
+        void print(PrintStream out) {
+            LatencyRecorder total = new LatencyRecorder();
+            double seconds = elapsed.toNanos() / 1e9;
+
+            out.printf("%-16s %9s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+
+            for (Map.Entry<Endpoint, LatencyRecorder> entry : recorders.entrySet()) {
+                total.merge(entry.getValue());
+                print(out, entry.getKey().name(), entry.getValue(), seconds);
+            }
+
+            print(out, "TOTAL", total, seconds);
+        }
+
+        private static void print(PrintStream out, String name, LatencyRecorder recorder, double seconds) {
+            recorder.sort();
+            out.printf("%-16s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    name,
+                    recorder.count(),
+                    recorder.errors(),
+                    recorder.count() / seconds,
+                    recorder.percentile(50) / 1e6,
+                    recorder.percentile(99) / 1e6,
+                    recorder.percentile(99.9) / 1e6,
+                    recorder.max() / 1e6);
+        }
+
+    }
+
+}
@@ -68,6 +68,12 @@ public class ExceptionHandler {
         return new ErrorResponse(e.getMessage());
     }
 
+    @org.springframework.web.bind.annotation.ExceptionHandler
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleOverlappingBookingException(final OverlappingBookingException e) {
+        return new ErrorResponse(e.getMessage());
+    }
+
     @org.springframework.web.bind.annotation.ExceptionHandler
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleInvalidAuthorException(final InvalidAuthorException e) {
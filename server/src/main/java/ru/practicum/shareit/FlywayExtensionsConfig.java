@@ -0,0 +1,50 @@
+package ru.practicum.shareit;
+
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Миграции, которым нужны расширения PostgreSQL, лежат в отдельных каталогах и подключаются независимо:
+ * <ul>
+ *     <li>триграммные индексы ({@code pg_trgm}) — только в режимах поиска {@code full-text} и {@code trigram};</li>
+ *     <li>ограничение на пересечение подтверждённых бронирований ({@code btree_gist}) — свойством
+ *     {@code shareit.booking.overlap-constraint}, включено по умолчанию и от режима поиска не зависит.</li>
+ * </ul>
+ * Миграции применяются вне очереди ({@code spring.flyway.out-of-order}), поэтому их можно подключить
+ * и на уже развёрнутой базе.
+ */
+@Configuration
+public class FlywayExtensionsConfig {
+
+    private static final String TRIGRAM_LOCATION = "classpath:db/migration/postgresql-trigram";
+
+    private static final String BOOKING_OVERLAP_LOCATION = "classpath:db/migration/postgresql-booking-overlap";
+
+    @Bean
+    @ConditionalOnExpression("'${shareit.item.search}' matches 'full-text|trigram'")
+    public FlywayConfigurationCustomizer trigramMigrationsCustomizer() {
+        return configuration -> addLocation(configuration, TRIGRAM_LOCATION);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit.booking.overlap-constraint", havingValue = "true", matchIfMissing = true)
+    public FlywayConfigurationCustomizer bookingOverlapMigrationsCustomizer() {
+        return configuration -> addLocation(configuration, BOOKING_OVERLAP_LOCATION);
+    }
+
+    private static void addLocation(FluentConfiguration configuration, String location) {
+        List<Location> locations = new ArrayList<>(Arrays.asList(configuration.getLocations()));
+        locations.add(new Location(location));
+        configuration.locations(locations.toArray(new Location[0]));
+    }
+
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.booking.availability;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+
+import java.time.LocalDateTime;
+
+public interface AvailabilityService {
+
+    ItemAvailabilityDto getAvailability(long itemId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Учитывает новое или изменённое бронирование. Вызывается после сохранения бронирования,
+     * внутри транзакции изменение применяется только после её фиксации.
+     */
+    void onBookingSaved(Booking booking);
+
+}
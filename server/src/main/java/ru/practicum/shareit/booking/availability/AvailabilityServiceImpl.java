@@ -0,0 +1,162 @@
+package ru.practicum.shareit.booking.availability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.exception.InvalidDatesException;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Отвечает на вопросы о занятости вещи по расписанию бронирований в памяти, не обращаясь к базе данных.
+ * Расписание вещи загружается при первом запросе (только действующие и будущие бронирования)
+ * и дальше обновляется сервисом бронирований после фиксации транзакции, чтобы откаченное бронирование
+ * не осталось в расписании. Расписания хранятся в ограниченном кэше. Срок хранения отсчитывается
+ * от загрузки и не продлевается обновлениями, поэтому он ограничивает устаревание, если бронирование
+ * изменил другой экземпляр сервера.
+ */
+@Service
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    private static final Set<Status> BLOCKING_STATUSES = Set.of(Status.WAITING, Status.APPROVED);
+
+    private static final long MAX_TIMELINES = 10_000;
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final Cache<Long, BookingTimeline> timelines = Caffeine.newBuilder()
+            .maximumSize(MAX_TIMELINES)
+            .expireAfter(new Expiry<Long, BookingTimeline>() {
+                @Override
+                public long expireAfterCreate(Long itemId, BookingTimeline timeline, long currentTime) {
+                    return TTL.toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(Long itemId, BookingTimeline timeline, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(Long itemId, BookingTimeline timeline, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    public AvailabilityServiceImpl(BookingRepository bookingRepository, ItemRepository itemRepository) {
+        this.bookingRepository = bookingRepository;
+        this.itemRepository = itemRepository;
+    }
+
+    @Override
+    public ItemAvailabilityDto getAvailability(long itemId, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new InvalidDatesException("Период проверки не указан");
+        }
+
+        if (!from.isBefore(to)) {
+            throw new InvalidDatesException("Дата начала периода должна быть раньше даты окончания");
+        }
+
+        if (!itemRepository.existsById(itemId)) {
+            throw new NoSuchElementException("Вещи с идентификатором " + itemId + " не существует");
+        }
+
+        long fromMillis = toMillis(from);
+        long toMillis = toMillis(to);
+        BookingTimeline timeline = timelines.get(itemId, this::loadTimeline);
+        boolean available;
+        long nextFreeMillis;
+
+        synchronized (timeline) {
+            available = timeline.isFree(fromMillis, toMillis);
+            nextFreeMillis = available
+                    ? fromMillis
+                    : timeline.nextFree(fromMillis, toMillis - fromMillis);
+        }
+
+        LocalDateTime nextFreeStart = fromMillis(nextFreeMillis);
+
+        return new ItemAvailabilityDto(itemId,
+                from,
+                to,
+                available,
+                nextFreeStart,
+                nextFreeStart.plus(Duration.between(from, to)));
+    }
+
+    @Override
+    public void onBookingSaved(Booking booking) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyToLoaded(booking);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyToLoaded(booking);
+            }
+        });
+    }
+
+    /**
+     * Обновляет расписание, если оно уже загружено. Если расписание в этот момент загружается,
+     * вызов дождётся окончания загрузки и применит изменение к загруженному расписанию.
+     */
+    private void applyToLoaded(Booking booking) {
+        timelines.asMap().computeIfPresent(booking.getItem().getId(), (itemId, timeline) -> {
+            synchronized (timeline) {
+                apply(timeline, booking);
+            }
+            return timeline;
+        });
+    }
+
+    private BookingTimeline loadTimeline(long itemId) {
+        BookingTimeline timeline = new BookingTimeline();
+        List<Booking> bookings = bookingRepository
+                .findAllByItemIdAndStatusInAndEndAfterOrderByStartAsc(itemId, BLOCKING_STATUSES, LocalDateTime.now());
+
+        for (Booking booking : bookings) {
+            apply(timeline, booking);
+        }
+
+        return timeline;
+    }
+
+    private static void apply(BookingTimeline timeline, Booking booking) {
+        if (BLOCKING_STATUSES.contains(booking.getStatus())) {
+            timeline.put(booking.getId(), toMillis(booking.getStart()), toMillis(booking.getEnd()));
+        } else {
+            timeline.remove(booking.getId());
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000),
+                (int) Math.floorMod(millis, 1000) * 1_000_000,
+                ZoneOffset.UTC);
+    }
+
+}
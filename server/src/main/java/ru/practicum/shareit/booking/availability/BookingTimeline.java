@@ -0,0 +1,159 @@
+package ru.practicum.shareit.booking.availability;
+
+import java.util.Arrays;
+
+/**
+ * Бронирования одной вещи в виде параллельных массивов, упорядоченных по началу периода.
+ * Периоды полуоткрытые {@code [start, end)}, время — миллисекунды. Периоды могут пересекаться
+ * (несколько бронирований в ожидании подтверждения), поэтому рядом хранится префиксный максимум
+ * окончаний: он не убывает, и по нему можно искать двоичным поиском.
+ * Класс не потокобезопасен, синхронизацию обеспечивает {@link AvailabilityServiceImpl}.
+ */
+class BookingTimeline {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] bookingIds = new long[INITIAL_CAPACITY];
+
+    private long[] starts = new long[INITIAL_CAPACITY];
+
+    private long[] ends = new long[INITIAL_CAPACITY];
+
+    private long[] maxEnds = new long[INITIAL_CAPACITY];
+
+    private int size;
+
+    /**
+     * Добавляет период бронирования или заменяет период бронирования с тем же идентификатором.
+     */
+    void put(long bookingId, long start, long end) {
+        remove(bookingId);
+
+        if (size == starts.length) {
+            int capacity = size * 2;
+            bookingIds = Arrays.copyOf(bookingIds, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            maxEnds = Arrays.copyOf(maxEnds, capacity);
+        }
+
+        int index = upperBound(start);
+        System.arraycopy(bookingIds, index, bookingIds, index + 1, size - index);
+        System.arraycopy(starts, index, starts, index + 1, size - index);
+        System.arraycopy(ends, index, ends, index + 1, size - index);
+        bookingIds[index] = bookingId;
+        starts[index] = start;
+        ends[index] = end;
+        size++;
+
+        updateMaxEnds(index);
+    }
+
+    void remove(long bookingId) {
+        for (int i = 0; i < size; i++) {
+            if (bookingIds[i] == bookingId) {
+                System.arraycopy(bookingIds, i + 1, bookingIds, i, size - i - 1);
+                System.arraycopy(starts, i + 1, starts, i, size - i - 1);
+                System.arraycopy(ends, i + 1, ends, i, size - i - 1);
+                size--;
+                updateMaxEnds(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что период {@code [from, to)} не пересекается ни с одним бронированием.
+     */
+    boolean isFree(long from, long to) {
+        int before = lowerBound(to);
+        return before == 0 || maxEnds[before - 1] <= from;
+    }
+
+    /**
+     * Находит самое раннее начало свободного периода длительностью {@code duration}, не раньше {@code from}.
+     */
+    long nextFree(long from, long duration) {
+        long candidate = from;
+
+        for (int i = firstEndingAfter(from); i < size; i++) {
+            if (starts[i] >= candidate + duration) {
+                break;
+            }
+
+            candidate = Math.max(candidate, ends[i]);
+        }
+
+        return candidate;
+    }
+
+    /**
+     * Индекс первого периода, начинающегося не раньше {@code start}.
+     */
+    private int lowerBound(long start) {
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (starts[middle] < start) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Индекс первого периода, начинающегося позже {@code start}.
+     */
+    private int upperBound(long start) {
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (starts[middle] <= start) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Индекс первого периода, у которого префиксный максимум окончаний больше {@code from}.
+     * Все периоды до него закончились не позже {@code from}.
+     */
+    private int firstEndingAfter(long from) {
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (maxEnds[middle] <= from) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private void updateMaxEnds(int fromIndex) {
+        for (int i = fromIndex; i < size; i++) {
+            maxEnds[i] = i == 0
+                    ? ends[i]
+                    : Math.max(maxEnds[i - 1], ends[i]);
+        }
+    }
+
+}
@@ -1,22 +1,35 @@
 package ru.practicum.shareit.booking.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequestBody;
+import ru.practicum.shareit.booking.dto.OwnerBookingStatsDto;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.stats.BookingStatsService;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPage;
+import ru.practicum.shareit.pagination.PagingPolicy;
 
 import java.util.Collection;
+import java.util.List;
 
 @RestController
 @RequestMapping(path = "/bookings")
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingStatsService bookingStatsService;
+    private final PagingPolicy pagingPolicy;
 
     @Autowired
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService, BookingStatsService bookingStatsService, PagingPolicy pagingPolicy) {
         this.bookingService = bookingService;
+        this.bookingStatsService = bookingStatsService;
+        this.pagingPolicy = pagingPolicy;
     }
 
     @PostMapping
@@ -25,6 +38,19 @@ public class BookingController {
         return bookingService.addBooking(bookerId, bookingRequestBody);
     }
 
+    @PostMapping("/batch")
+    public List<BookingBatchResultDto> addBookings(@RequestHeader(value = "X-Sharer-User-Id") long bookerId,
+                                                   @RequestBody List<BookingRequestBody> bookingRequestBodies) {
+        return bookingService.addBookings(bookerId, bookingRequestBodies);
+    }
+
+    @PatchMapping("/batch")
+    public List<BookingBatchResultDto> updateBookings(@RequestHeader(value = "X-Sharer-User-Id") long ownerId,
+                                                      @RequestParam boolean approved,
+                                                      @RequestBody List<Long> bookingIds) {
+        return bookingService.updateBookings(ownerId, bookingIds, approved);
+    }
+
     @GetMapping("/{bookingId}")
     public BookingDto getBooking(@RequestHeader(value = "X-Sharer-User-Id") long userId,
                                  @PathVariable long bookingId) {
@@ -39,19 +65,48 @@ public class BookingController {
     }
 
     @GetMapping
-    Collection<BookingDto> getBookings(@RequestHeader(value = "X-Sharer-User-Id") long bookerId,
-                                       @RequestParam(defaultValue = "ALL", required = false) String state,
-                                       @RequestParam(required = false) Integer from,
-                                       @RequestParam(required = false) Integer size) {
-        return bookingService.getBookings(bookerId, state, from, size);
+    ResponseEntity<Collection<BookingDto>> getBookings(@RequestHeader(value = "X-Sharer-User-Id") long bookerId,
+                                                       @RequestParam(defaultValue = "ALL", required = false) String state,
+                                                       @RequestParam(required = false) Integer from,
+                                                       @RequestParam(required = false) Integer size) {
+        return OffsetPage.toResponse(bookingService.getBookings(bookerId, state, from, size),
+                from,
+                pagingPolicy.pageSize(size));
     }
 
     @GetMapping("/owner")
-    Collection<BookingDto> getBookingsByItemOwner(@RequestHeader(value = "X-Sharer-User-Id") long ownerId,
-                                                  @RequestParam(defaultValue = "ALL", required = false) String state,
-                                                  @RequestParam(required = false) Integer from,
-                                                  @RequestParam(required = false) Integer size) {
-        return bookingService.getBookingsByItemOwner(ownerId, state, from, size);
+    ResponseEntity<Collection<BookingDto>> getBookingsByItemOwner(@RequestHeader(value = "X-Sharer-User-Id") long ownerId,
+                                                                  @RequestParam(defaultValue = "ALL", required = false) String state,
+                                                                  @RequestParam(required = false) Integer from,
+                                                                  @RequestParam(required = false) Integer size) {
+        return OffsetPage.toResponse(bookingService.getBookingsByItemOwner(ownerId, state, from, size),
+                from,
+                pagingPolicy.pageSize(size));
+    }
+
+    @GetMapping("/owner/stats")
+    OwnerBookingStatsDto getBookingStatsByItemOwner(@RequestHeader(value = "X-Sharer-User-Id") long ownerId) {
+        return bookingStatsService.getStatsByItemOwner(ownerId);
+    }
+
+    @GetMapping(params = "cursor")
+    ResponseEntity<Collection<BookingDto>> getBookingsAfter(@RequestHeader(value = "X-Sharer-User-Id") long bookerId,
+                                                            @RequestParam(defaultValue = "ALL", required = false) String state,
+                                                            @RequestParam String cursor,
+                                                            @RequestParam(required = false) Integer size) {
+        return CursorPage.toResponse(bookingService.getBookingsAfter(bookerId, state, cursor, size),
+                size,
+                booking -> Cursor.of(booking.getStart(), booking.getId()));
+    }
+
+    @GetMapping(value = "/owner", params = "cursor")
+    ResponseEntity<Collection<BookingDto>> getBookingsByItemOwnerAfter(@RequestHeader(value = "X-Sharer-User-Id") long ownerId,
+                                                                       @RequestParam(defaultValue = "ALL", required = false) String state,
+                                                                       @RequestParam String cursor,
+                                                                       @RequestParam(required = false) Integer size) {
+        return CursorPage.toResponse(bookingService.getBookingsByItemOwnerAfter(ownerId, state, cursor, size),
+                size,
+                booking -> Cursor.of(booking.getStart(), booking.getId()));
     }
 
 }
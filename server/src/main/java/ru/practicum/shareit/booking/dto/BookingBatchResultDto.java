@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Результат обработки одного элемента пакета: бронирование или причина, по которой оно не создано или не изменено.
+ */
+@AllArgsConstructor
+@Getter
+public class BookingBatchResultDto {
+
+    BookingDto booking;
+
+    String error;
+
+}
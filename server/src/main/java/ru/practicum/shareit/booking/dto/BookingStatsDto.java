@@ -0,0 +1,26 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+public class BookingStatsDto {
+
+    /**
+     * Идентификатор вещи, {@code null} для итогов по всем вещам владельца.
+     */
+    Long itemId;
+
+    Map<Status, Long> byStatus;
+
+    /**
+     * Число бронирований в состояниях {@code CURRENT}, {@code PAST} и {@code FUTURE}.
+     */
+    Map<State, Long> byState;
+
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+
+@AllArgsConstructor
+@Getter
+public class OwnerBookingStatsDto {
+
+    BookingStatsDto total;
+
+    Collection<BookingStatsDto> items;
+
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.booking.exception;
+
+public class OverlappingBookingException extends RuntimeException {
+
+    public OverlappingBookingException(String message) {
+        super(message);
+    }
+
+}
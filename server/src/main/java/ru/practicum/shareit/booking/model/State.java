@@ -32,5 +32,17 @@ public enum State {
     /**
      * Отклонённые.
      */
-    REJECTED
+    REJECTED;
+
+    /**
+     * Разбирает состояние из параметра запроса.
+     */
+    public static State parse(String stateAsString) {
+        try {
+            return State.valueOf(stateAsString);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown state: UNSUPPORTED_STATUS");
+        }
+    }
+
 }
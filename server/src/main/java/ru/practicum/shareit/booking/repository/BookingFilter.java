@@ -0,0 +1,39 @@
+package ru.practicum.shareit.booking.repository;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.With;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.pagination.Cursor;
+
+/**
+ * Условия выборки бронирований для {@link BookingQueryRepository#findAllByFilter}.
+ * Роль пользователя задаётся одним из идентификаторов: автора бронирования или владельца вещи.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class BookingFilter {
+
+    private final Long bookerId;
+
+    private final Long itemOwnerId;
+
+    private final State state;
+
+    /**
+     * Маркер продолжения: выборка начинается после бронирования, на котором он был выдан.
+     * {@code null} означает первую страницу.
+     */
+    @With
+    private final Cursor after;
+
+    public static BookingFilter ofBooker(long bookerId, State state) {
+        return new BookingFilter(bookerId, null, state, null);
+    }
+
+    public static BookingFilter ofItemOwner(long itemOwnerId, State state) {
+        return new BookingFilter(null, itemOwnerId, state, null);
+    }
+
+}
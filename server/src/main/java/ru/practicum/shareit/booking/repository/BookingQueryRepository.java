@@ -0,0 +1,24 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface BookingQueryRepository {
+
+    /**
+     * Находит бронирования по условиям фильтра. Вещь и автор бронирования загружаются тем же запросом.
+     * Бронирования в состояниях {@code ALL}, {@code PAST} и {@code FUTURE} упорядочены
+     * по убыванию даты начала, в остальных состояниях — по возрастанию идентификатора.
+     */
+    List<Booking> findAllByFilter(BookingFilter filter, Pageable pageable);
+
+    /**
+     * То же, что {@link #findAllByFilter}, без ограничения размера: строки читаются из курсора базы
+     * порциями, пока поток не будет закрыт. Вызывается в транзакции.
+     */
+    Stream<Booking> streamAllByFilter(BookingFilter filter);
+
+}
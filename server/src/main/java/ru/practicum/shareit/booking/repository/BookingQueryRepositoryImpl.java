@@ -0,0 +1,156 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.QueryHints;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.Cursor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Собирает запрос к бронированиям из независимых частей: роли пользователя, состояния,
+ * маркера продолжения и порядка сортировки. Новое условие добавляется в {@link BookingFilter}
+ * и в {@link #toPredicates}, без отдельного метода репозитория на каждое сочетание.
+ */
+public class BookingQueryRepositoryImpl implements BookingQueryRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Booking> findAllByFilter(BookingFilter filter, Pageable pageable) {
+        TypedQuery<Booking> query = createQuery(filter);
+
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<Booking> streamAllByFilter(BookingFilter filter) {
+        return createQuery(filter)
+                .setHint(QueryHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<Booking> createQuery(BookingFilter filter) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Booking> criteria = builder.createQuery(Booking.class);
+        Root<Booking> booking = criteria.from(Booking.class);
+        Join<Booking, Item> item = (Join<Booking, Item>) booking.<Booking, Item>fetch("item");
+        booking.fetch("booker");
+
+        criteria
+                .select(booking)
+                .where(toPredicates(builder, booking, item, filter).toArray(new Predicate[0]))
+                .orderBy(toOrders(builder, booking, filter.getState()));
+
+        return entityManager.createQuery(criteria);
+    }
+
+    private List<Predicate> toPredicates(CriteriaBuilder builder,
+                                         Root<Booking> booking,
+                                         Join<Booking, Item> item,
+                                         BookingFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.getBookerId() != null) {
+            predicates.add(builder.equal(booking.get("booker").get("id"), filter.getBookerId()));
+        }
+
+        if (filter.getItemOwnerId() != null) {
+            predicates.add(builder.equal(item.get("owner").get("id"), filter.getItemOwnerId()));
+        }
+
+        addStatePredicates(predicates, builder, booking, filter.getState());
+
+        if (filter.getAfter() != null) {
+            predicates.add(toKeysetPredicate(builder, booking, filter.getState(), filter.getAfter()));
+        }
+
+        return predicates;
+    }
+
+    private void addStatePredicates(List<Predicate> predicates,
+                                    CriteriaBuilder builder,
+                                    Root<Booking> booking,
+                                    State state) {
+        Path<LocalDateTime> start = booking.get("start");
+        Path<LocalDateTime> end = booking.get("end");
+        Path<Status> status = booking.get("status");
+        LocalDateTime now = LocalDateTime.now();
+
+        switch (state) {
+            case CURRENT:
+                predicates.add(status.in(Status.REJECTED, Status.APPROVED));
+                predicates.add(builder.lessThan(start, now));
+                predicates.add(builder.greaterThan(end, now));
+                break;
+
+            case PAST:
+                predicates.add(builder.equal(status, Status.APPROVED));
+                predicates.add(builder.lessThan(end, now));
+                break;
+
+            case FUTURE:
+                predicates.add(status.in(Status.WAITING, Status.APPROVED));
+                predicates.add(builder.greaterThan(start, now));
+                break;
+
+            case WAITING:
+                predicates.add(builder.equal(status, Status.WAITING));
+                break;
+
+            case REJECTED:
+                predicates.add(builder.equal(status, Status.REJECTED));
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private Predicate toKeysetPredicate(CriteriaBuilder builder, Root<Booking> booking, State state, Cursor after) {
+        Path<Long> id = booking.get("id");
+
+        if (!isOrderedByStart(state)) {
+            return builder.greaterThan(id, after.getId());
+        }
+
+        Path<LocalDateTime> start = booking.get("start");
+        LocalDateTime startBefore = after.getStart() != null ? after.getStart() : Cursor.MAX_START;
+
+        return builder.or(
+                builder.lessThan(start, startBefore),
+                builder.and(builder.equal(start, startBefore), builder.lessThan(id, after.getId())));
+    }
+
+    private List<Order> toOrders(CriteriaBuilder builder, Root<Booking> booking, State state) {
+        if (!isOrderedByStart(state)) {
+            return List.of(builder.asc(booking.get("id")));
+        }
+
+        return List.of(builder.desc(booking.get("start")), builder.desc(booking.get("id")));
+    }
+
+    private static boolean isOrderedByStart(State state) {
+        return state == State.ALL || state == State.PAST || state == State.FUTURE;
+    }
+
+}
@@ -1,95 +1,88 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingQueryRepository {
 
-    Page<Booking> findAllByBookerIdOrderByStartDesc(Long bookerId, Pageable pageable);
+    @Override
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findById(Long id);
 
-    Page<Booking> findAllByBookerIdAndStatusOrderByIdAsc(Long bookerId, Status status, Pageable pageable);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findAllByIdIn(Collection<Long> ids);
 
-    @Query("SELECT b " +
-            "FROM Booking as b " +
-            "WHERE b.booker.id = ?1 " +
-            "AND b.status IN ('WAITING', 'APPROVED') " +
-            "AND b.start > CURRENT_TIMESTAMP " +
-            "ORDER BY b.start DESC"
-    )
-    Page<Booking> findAllFutureBookingsByBookerIdOrderByStartDesc(Long bookerId, Pageable pageable);
-
-    @Query("SELECT b " +
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingShortDto(b.id, b.booker.id) " +
             "FROM Booking b " +
-            "WHERE b.booker.id = ?1 " +
+            "WHERE b.item.id = ?1 " +
             "AND b.status = 'APPROVED' " +
-            "AND b.end < CURRENT_TIMESTAMP " +
+            "AND b.start < CURRENT_TIMESTAMP " +
             "ORDER BY b.start DESC"
     )
-    Page<Booking> findAllPastBookingsByBookerIdOrderByStartDesc(Long bookerId, Pageable pageable);
+    List<BookingShortDto> findLastBookingByItemId(Long itemId, Pageable pageable);
 
-    @Query("SELECT b " +
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingShortDto(b.id, b.booker.id) " +
             "FROM Booking b " +
-            "WHERE b.booker.id = ?1 " +
-            "AND b.status IN ('REJECTED', 'APPROVED') " +
-            "AND (b.start < CURRENT_TIMESTAMP AND b.end > CURRENT_TIMESTAMP) " +
-            "ORDER BY b.id ASC"
-    )
-    Page<Booking> findAllCurrentBookingsByBookerIdOrderByIdAsc(Long bookerId, Pageable pageable);
-
-    Page<Booking> findAllByItemOwnerIdOrderByStartDesc(Long ownerId, Pageable pageable);
-
-    Page<Booking> findAllByItemOwnerIdAndStatusOrderByIdAsc(Long ownerId, Status status, Pageable pageable);
-
-    @Query("SELECT b " +
-            "FROM Booking as b " +
-            "WHERE b.item.owner.id = ?1 " +
+            "WHERE b.item.id = ?1 " +
             "AND b.status IN ('WAITING', 'APPROVED') " +
             "AND b.start > CURRENT_TIMESTAMP " +
-            "ORDER BY b.start DESC"
+            "ORDER BY b.start ASC"
     )
-    Page<Booking> findAllFutureBookingsByItemOwnerIdOrderByStartDesc(Long ownerId, Pageable pageable);
+    List<BookingShortDto> findNextBookingByItemId(Long itemId, Pageable pageable);
 
-    @Query("SELECT b " +
+    List<Booking> findAllByItemIdAndStatusInAndEndAfterOrderByStartAsc(Long itemId,
+                                                                    Collection<Status> statuses,
+                                                                    LocalDateTime end);
+
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END " +
             "FROM Booking b " +
-            "WHERE b.item.owner.id = ?1 " +
+            "WHERE b.item.id = ?1 " +
             "AND b.status = 'APPROVED' " +
-            "AND b.end < CURRENT_TIMESTAMP " +
-            "ORDER BY b.start DESC"
+            "AND b.start < ?3 " +
+            "AND b.end > ?2"
     )
-    Page<Booking> findAllPastBookingsByItemOwnerIdOrderByStartDesc(Long ownerId, Pageable pageable);
+    boolean existsApprovedBookingByItemIdOverlapping(Long itemId, LocalDateTime start, LocalDateTime end);
 
     @Query("SELECT b " +
             "FROM Booking b " +
-            "WHERE b.item.owner.id = ?1 " +
-            "AND b.status IN ('REJECTED', 'APPROVED') " +
-            "AND (b.start < CURRENT_TIMESTAMP AND b.end > CURRENT_TIMESTAMP) " +
-            "ORDER BY b.id ASC"
+            "WHERE b.item.id IN ?1 " +
+            "AND b.status = 'APPROVED' " +
+            "AND b.start < ?3 " +
+            "AND b.end > ?2"
     )
-    Page<Booking> findAllCurrentBookingsByItemOwnerIdOrderByIdAsc(Long ownerId, Pageable pageable);
+    List<Booking> findAllApprovedBookingsByItemIdInOverlapping(Collection<Long> itemIds, LocalDateTime start, LocalDateTime end);
 
-    @Query("SELECT b " +
-            "FROM Booking b " +
-            "WHERE b.item.id = ?1 " +
+    @Query(value = "SELECT * " +
+            "FROM (SELECT b.*, ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.start_date DESC) AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (?1) " +
             "AND b.status = 'APPROVED' " +
-            "AND b.start < CURRENT_TIMESTAMP " +
-            "ORDER BY b.start ASC"
+            "AND b.start_date < CURRENT_TIMESTAMP) AS last_bookings " +
+            "WHERE last_bookings.rn = 1",
+            nativeQuery = true
     )
-    List<Booking> findAllCurrentOrPastBookingsByItemIdOrderByStartAsc(Long itemId);
+    List<Booking> findLastBookingsByItemIdIn(Collection<Long> itemIds);
 
-    @Query("SELECT b " +
-            "FROM Booking as b " +
-            "WHERE b.item.id = ?1 " +
+    @Query(value = "SELECT * " +
+            "FROM (SELECT b.*, ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.start_date ASC) AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (?1) " +
             "AND b.status IN ('WAITING', 'APPROVED') " +
-            "AND b.start > CURRENT_TIMESTAMP " +
-            "ORDER BY b.start DESC"
+            "AND b.start_date > CURRENT_TIMESTAMP) AS next_bookings " +
+            "WHERE next_bookings.rn = 1",
+            nativeQuery = true
     )
-    List<Booking> findAllFutureBookingsByItemIdOrderByStartDesc(Long itemId);
+    List<Booking> findNextBookingsByItemIdIn(Collection<Long> itemIds);
 
     @Query("SELECT b " +
             "FROM Booking b " +
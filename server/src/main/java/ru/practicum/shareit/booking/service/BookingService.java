@@ -1,9 +1,11 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequestBody;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface BookingService {
 
@@ -13,8 +15,24 @@ public interface BookingService {
 
     BookingDto updateBooking(long ownerId, long bookingId, boolean approved);
 
+    /**
+     * Создаёт пакет бронирований в одной транзакции. Элементы, не прошедшие проверку, пропускаются,
+     * результаты возвращаются в порядке запроса.
+     */
+    List<BookingBatchResultDto> addBookings(long bookerId, List<BookingRequestBody> bookingRequestBodies);
+
+    /**
+     * Подтверждает или отклоняет пакет бронирований в одной транзакции,
+     * результаты возвращаются в порядке запроса.
+     */
+    List<BookingBatchResultDto> updateBookings(long ownerId, List<Long> bookingIds, boolean approved);
+
     Collection<BookingDto> getBookings(long bookerId, String state, Integer from, Integer size);
 
     Collection<BookingDto> getBookingsByItemOwner(long ownerId, String state, Integer from, Integer size);
 
+    Collection<BookingDto> getBookingsAfter(long bookerId, String state, String cursor, Integer size);
+
+    Collection<BookingDto> getBookingsByItemOwnerAfter(long ownerId, String state, String cursor, Integer size);
+
 }
@@ -1,9 +1,10 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.availability.AvailabilityService;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequestBody;
 import ru.practicum.shareit.booking.exception.*;
@@ -11,27 +12,42 @@ import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingFilter;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.stats.BookingStatsService;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.PagingPolicy;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
+import javax.validation.ValidationException;
 import java.time.LocalDateTime;
-import java.util.Collection;
-import java.util.NoSuchElementException;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class BookingServiceImpl implements BookingService {
 
+    /**
+     * Наибольшее число бронирований в одном пакетном запросе.
+     */
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final AvailabilityService availabilityService;
+    private final UserExistenceChecker userExistenceChecker;
+    private final BookingStatsService bookingStatsService;
+    private final PagingPolicy pagingPolicy;
 
     @Override
+    @Transactional
     public BookingDto addBooking(long bookerId, BookingRequestBody bookingRequestBody) {
         Booking booking = new Booking();
         booking.setId(null);
@@ -43,14 +59,7 @@ public class BookingServiceImpl implements BookingService {
             throw new NoSuchElementException("Вещи с идентификатором " + bookingRequestBody.getItemId() + " не существует");
         }
 
-        if (!item.get().getAvailable()) {
-            throw new UnavailableItemException("Вещь с идентификатором " + bookingRequestBody.getItemId() + " недоступна");
-        }
-
-        if (item.get().getOwner().getId() == bookerId) {
-            throw new InvalidBookerException("Владелец не может бронировать свою вещь");
-        }
-
+        checkBookable(item.get(), bookerId);
         booking.setItem(item.get());
 
         Optional<User> booker = userRepository.findById(bookerId);
@@ -63,35 +72,18 @@ public class BookingServiceImpl implements BookingService {
 
         LocalDateTime start = bookingRequestBody.getStart();
         LocalDateTime end = bookingRequestBody.getEnd();
+        checkDates(start, end);
 
-        if (start == null) {
-            throw new InvalidDatesException("Дата начала бронирования отсутствует");
-        }
-
-        if (end == null) {
-            throw new InvalidDatesException("Дата окончания бронирования отсутствует");
-        }
-
-        if (start.isBefore(LocalDateTime.now())) {
-            throw new InvalidDatesException("Дата начала бронирования раньше текущего дня");
-        }
-
-        if (end.isBefore(LocalDateTime.now())) {
-            throw new InvalidDatesException("Дата окончания бронирования раньше текущего дня");
-        }
-
-        if (start.isEqual(end)) {
-            throw new InvalidDatesException("Дата начала бронирования совпадает с датой окончания");
-        }
-
-        if (start.isAfter(end)) {
-            throw new InvalidDatesException("Дата начала бронирования позже даты окончания");
+        if (bookingRepository.existsApprovedBookingByItemIdOverlapping(item.get().getId(), start, end)) {
+            throw new OverlappingBookingException("Вещь с идентификатором " + item.get().getId() + " уже забронирована на эти даты");
         }
 
         booking.setStart(start);
         booking.setEnd(end);
 
         booking = bookingRepository.save(booking);
+        bookingStatsService.onBookingSaved(booking, null);
+        availabilityService.onBookingSaved(booking);
         return BookingMapper.toBookingDto(booking);
     }
 
@@ -112,12 +104,9 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional
     public BookingDto updateBooking(long ownerId, long bookingId, boolean approved) {
-        Optional<User> booker = userRepository.findById(ownerId);
-
-        if (booker.isEmpty()) {
-            throw new NoSuchElementException("Пользователя с идентификатором " + ownerId + " не существует");
-        }
+        userExistenceChecker.requireExists(ownerId);
 
         Optional<Booking> existingBooking = bookingRepository.findById(bookingId);
 
@@ -133,165 +122,257 @@ public class BookingServiceImpl implements BookingService {
             throw new AccessDeniedException("Статус бронирования может изменить только владелец вещи");
         }
 
+        if (approved && bookingRepository.existsApprovedBookingByItemIdOverlapping(existingBooking.get().getItem().getId(),
+                existingBooking.get().getStart(),
+                existingBooking.get().getEnd())) {
+            throw new OverlappingBookingException("Вещь с идентификатором " + existingBooking.get().getItem().getId() +
+                    " уже забронирована на эти даты");
+        }
+
+        Status previousStatus = existingBooking.get().getStatus();
         existingBooking.get().setStatus(approved ? Status.APPROVED : Status.REJECTED);
 
         Booking updatedBooking = bookingRepository.save(existingBooking.get());
+        bookingStatsService.onBookingSaved(updatedBooking, previousStatus);
+        availabilityService.onBookingSaved(updatedBooking);
         return BookingMapper.toBookingDto(updatedBooking);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Collection<BookingDto> getBookings(long bookerId, String state, Integer from, Integer size) {
+    @Transactional
+    public List<BookingBatchResultDto> addBookings(long bookerId, List<BookingRequestBody> bookingRequestBodies) {
+        checkBatchSize(bookingRequestBodies.size());
+
         Optional<User> booker = userRepository.findById(bookerId);
 
         if (booker.isEmpty()) {
             throw new NoSuchElementException("Пользователя с идентификатором " + bookerId + " не существует");
         }
 
-        if ((from != null && from < 0) || (size != null && size <= 0)) {
-            throw new IllegalArgumentException("Неверные параметры поиска");
+        Set<Long> itemIds = bookingRequestBodies
+                .stream()
+                .map(BookingRequestBody::getItemId)
+                .collect(Collectors.toSet());
+        Map<Long, Item> items = itemRepository
+                .findAllById(itemIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<Long, List<Booking>> approvedBookings = findApprovedBookingsByItemId(items.keySet(),
+                bookingRequestBodies.stream().map(BookingRequestBody::getStart).filter(Objects::nonNull)
+                        .min(Comparator.naturalOrder()).orElse(LocalDateTime.now()),
+                bookingRequestBodies.stream().map(BookingRequestBody::getEnd).filter(Objects::nonNull)
+                        .max(Comparator.naturalOrder()).orElse(LocalDateTime.now()));
+
+        BookingBatchResultDto[] results = new BookingBatchResultDto[bookingRequestBodies.size()];
+        Map<Integer, Booking> bookings = new LinkedHashMap<>();
+
+        for (int i = 0; i < bookingRequestBodies.size(); i++) {
+            BookingRequestBody bookingRequestBody = bookingRequestBodies.get(i);
+            Item item = items.get(bookingRequestBody.getItemId());
+
+            try {
+                if (item == null) {
+                    throw new NoSuchElementException("Вещи с идентификатором " + bookingRequestBody.getItemId() + " не существует");
+                }
+
+                checkBookable(item, bookerId);
+                checkDates(bookingRequestBody.getStart(), bookingRequestBody.getEnd());
+
+                if (overlaps(approvedBookings.get(item.getId()), bookingRequestBody.getStart(), bookingRequestBody.getEnd())) {
+                    throw new OverlappingBookingException("Вещь с идентификатором " + item.getId() + " уже забронирована на эти даты");
+                }
+            } catch (NoSuchElementException | UnavailableItemException | InvalidBookerException |
+                     InvalidDatesException | OverlappingBookingException e) {
+                results[i] = new BookingBatchResultDto(null, e.getMessage());
+                continue;
+            }
+
+            bookings.put(i, new Booking(null,
+                    bookingRequestBody.getStart(),
+                    bookingRequestBody.getEnd(),
+                    item,
+                    booker.get(),
+                    Status.WAITING));
         }
 
-        if (from == null) {
-            from = 0;
-        }
+        List<Booking> savedBookings = bookingRepository.saveAll(bookings.values());
+        bookingStatsService.onBookingsSaved(savedBookings, null);
+        savedBookings.forEach(availabilityService::onBookingSaved);
+        bookings.forEach((i, booking) -> results[i] = new BookingBatchResultDto(BookingMapper.toBookingDto(booking), null));
 
-        if (size == null) {
-            size = Integer.MAX_VALUE;
-        }
+        return Arrays.asList(results);
+    }
 
-        switch (parseState(state)) {
-            case CURRENT:
-                return bookingRepository
-                        .findAllCurrentBookingsByBookerIdOrderByIdAsc(bookerId, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
-
-            case PAST:
-                return bookingRepository
-                        .findAllPastBookingsByBookerIdOrderByStartDesc(bookerId, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
-
-            case FUTURE:
-                return bookingRepository
-                        .findAllFutureBookingsByBookerIdOrderByStartDesc(bookerId, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
-
-            case WAITING:
-                return bookingRepository
-                        .findAllByBookerIdAndStatusOrderByIdAsc(bookerId, Status.WAITING, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
-
-            case REJECTED:
-                return bookingRepository
-                        .findAllByBookerIdAndStatusOrderByIdAsc(bookerId, Status.REJECTED, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
-
-            default:
-                return bookingRepository
-                        .findAllByBookerIdOrderByStartDesc(bookerId, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+    @Override
+    @Transactional
+    public List<BookingBatchResultDto> updateBookings(long ownerId, List<Long> bookingIds, boolean approved) {
+        checkBatchSize(bookingIds.size());
+        userExistenceChecker.requireExists(ownerId);
+
+        Map<Long, Booking> existingBookings = bookingRepository
+                .findAllByIdIn(bookingIds)
+                .stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        Map<Long, List<Booking>> approvedBookings = approved && !existingBookings.isEmpty()
+                ? findApprovedBookingsByItemId(
+                        existingBookings.values().stream().map(booking -> booking.getItem().getId()).collect(Collectors.toSet()),
+                        existingBookings.values().stream().map(Booking::getStart).min(Comparator.naturalOrder()).get(),
+                        existingBookings.values().stream().map(Booking::getEnd).max(Comparator.naturalOrder()).get())
+                : new HashMap<>();
+
+        BookingBatchResultDto[] results = new BookingBatchResultDto[bookingIds.size()];
+        Map<Integer, Booking> bookings = new LinkedHashMap<>();
+
+        for (int i = 0; i < bookingIds.size(); i++) {
+            Booking booking = existingBookings.get(bookingIds.get(i));
+
+            try {
+                if (booking == null) {
+                    throw new NoSuchElementException("Бронирования с идентификатором " + bookingIds.get(i) + " не существует");
+                }
+
+                if (booking.getStatus() != Status.WAITING) {
+                    throw new InvalidStatusException("Статус бронирования уже изменен");
+                }
+
+                if (booking.getItem().getOwner().getId() != ownerId) {
+                    throw new AccessDeniedException("Статус бронирования может изменить только владелец вещи");
+                }
+
+                if (approved && overlaps(approvedBookings.get(booking.getItem().getId()), booking.getStart(), booking.getEnd())) {
+                    throw new OverlappingBookingException("Вещь с идентификатором " + booking.getItem().getId() +
+                            " уже забронирована на эти даты");
+                }
+            } catch (NoSuchElementException | InvalidStatusException | AccessDeniedException |
+                     OverlappingBookingException e) {
+                results[i] = new BookingBatchResultDto(null, e.getMessage());
+                continue;
+            }
+
+            booking.setStatus(approved ? Status.APPROVED : Status.REJECTED);
+            bookings.put(i, booking);
+
+            if (approved) {
+                approvedBookings.computeIfAbsent(booking.getItem().getId(), itemId -> new ArrayList<>()).add(booking);
+            }
         }
+
+        List<Booking> savedBookings = bookingRepository.saveAll(bookings.values());
+        bookingStatsService.onBookingsSaved(savedBookings, Status.WAITING);
+        savedBookings.forEach(availabilityService::onBookingSaved);
+        bookings.forEach((i, booking) -> results[i] = new BookingBatchResultDto(BookingMapper.toBookingDto(booking), null));
+
+        return Arrays.asList(results);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Collection<BookingDto> getBookings(long bookerId, String state, Integer from, Integer size) {
+        userExistenceChecker.requireExists(bookerId);
+        return findBookings(BookingFilter.ofBooker(bookerId, State.parse(state)), from, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Collection<BookingDto> getBookingsByItemOwner(long ownerId, String state, Integer from, Integer size) {
-        Optional<User> owner = userRepository.findById(ownerId);
+        userExistenceChecker.requireExists(ownerId);
+        return findBookings(BookingFilter.ofItemOwner(ownerId, State.parse(state)), from, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<BookingDto> getBookingsAfter(long bookerId, String state, String cursor, Integer size) {
+        userExistenceChecker.requireExists(bookerId);
+        return findBookingsAfter(BookingFilter.ofBooker(bookerId, State.parse(state)), cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<BookingDto> getBookingsByItemOwnerAfter(long ownerId, String state, String cursor, Integer size) {
+        userExistenceChecker.requireExists(ownerId);
+        return findBookingsAfter(BookingFilter.ofItemOwner(ownerId, State.parse(state)), cursor, size);
+    }
+
+    private Collection<BookingDto> findBookings(BookingFilter filter, Integer from, Integer size) {
+        return bookingRepository
+                .findAllByFilter(filter, pagingPolicy.offset(from, size))
+                .stream()
+                .map(BookingMapper::toBookingDto)
+                .collect(Collectors.toList());
+    }
+
+    private Collection<BookingDto> findBookingsAfter(BookingFilter filter, String cursor, Integer size) {
+        return bookingRepository
+                .findAllByFilter(filter.withAfter(Cursor.decode(cursor)), pagingPolicy.limit(size))
+                .stream()
+                .map(BookingMapper::toBookingDto)
+                .collect(Collectors.toList());
+    }
+
+    private static void checkBookable(Item item, long bookerId) {
+        if (!item.getAvailable()) {
+            throw new UnavailableItemException("Вещь с идентификатором " + item.getId() + " недоступна");
+        }
+
+        if (item.getOwner().getId() == bookerId) {
+            throw new InvalidBookerException("Владелец не может бронировать свою вещь");
+        }
+    }
 
-        if (owner.isEmpty()) {
-            throw new NoSuchElementException("Пользователя с идентификатором " + ownerId + " не существует");
+    private static void checkDates(LocalDateTime start, LocalDateTime end) {
+        if (start == null) {
+            throw new InvalidDatesException("Дата начала бронирования отсутствует");
         }
 
-        if ((from != null && from < 0) || (size != null && size <= 0)) {
-            throw new IllegalArgumentException("Неверные параметры поиска");
+        if (end == null) {
+            throw new InvalidDatesException("Дата окончания бронирования отсутствует");
         }
 
-        if (from == null) {
-            from = 0;
+        if (start.isBefore(LocalDateTime.now())) {
+            throw new InvalidDatesException("Дата начала бронирования раньше текущего дня");
         }
 
-        if (size == null) {
-            size = Integer.MAX_VALUE;
+        if (end.isBefore(LocalDateTime.now())) {
+            throw new InvalidDatesException("Дата окончания бронирования раньше текущего дня");
         }
 
-        switch (parseState(state)) {
-            case CURRENT:
-                return bookingRepository
-                        .findAllCurrentBookingsByItemOwnerIdOrderByIdAsc(ownerId, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
-
-            case PAST:
-                return bookingRepository
-                        .findAllPastBookingsByItemOwnerIdOrderByStartDesc(ownerId, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
-
-            case FUTURE:
-                return bookingRepository
-                        .findAllFutureBookingsByItemOwnerIdOrderByStartDesc(ownerId, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
-
-            case WAITING:
-                return bookingRepository
-                        .findAllByItemOwnerIdAndStatusOrderByIdAsc(ownerId, Status.WAITING, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
-
-            case REJECTED:
-                return bookingRepository
-                        .findAllByItemOwnerIdAndStatusOrderByIdAsc(ownerId, Status.REJECTED, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
-
-            default:
-                return bookingRepository
-                        .findAllByItemOwnerIdOrderByStartDesc(ownerId, Pageable.ofSize(from + size))
-                        .stream()
-                        .skip(from)
-                        .map(BookingMapper::toBookingDto)
-                        .collect(Collectors.toList());
+        if (start.isEqual(end)) {
+            throw new InvalidDatesException("Дата начала бронирования совпадает с датой окончания");
+        }
+
+        if (start.isAfter(end)) {
+            throw new InvalidDatesException("Дата начала бронирования позже даты окончания");
         }
     }
 
-    private State parseState(String stateAsString) {
-        State state;
+    private static void checkBatchSize(int size) {
+        if (size == 0 || size > MAX_BATCH_SIZE) {
+            throw new ValidationException("В пакете должно быть от 1 до " + MAX_BATCH_SIZE + " элементов");
+        }
+    }
 
-        try {
-            state = State.valueOf(stateAsString);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Unknown state: UNSUPPORTED_STATUS");
+    /**
+     * Подтверждённые бронирования указанных вещей, пересекающиеся с периодом {@code [start, end)}, по вещам.
+     */
+    private Map<Long, List<Booking>> findApprovedBookingsByItemId(Collection<Long> itemIds,
+                                                                  LocalDateTime start,
+                                                                  LocalDateTime end) {
+        if (itemIds.isEmpty()) {
+            return new HashMap<>();
         }
 
-        return state;
+        return bookingRepository
+                .findAllApprovedBookingsByItemIdInOverlapping(itemIds, start, end)
+                .stream()
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId(),
+                        HashMap::new,
+                        Collectors.toCollection(ArrayList::new)));
+    }
+
+    private static boolean overlaps(List<Booking> bookings, LocalDateTime start, LocalDateTime end) {
+        return bookings != null && bookings
+                .stream()
+                .anyMatch(booking -> booking.getStart().isBefore(end) && booking.getEnd().isAfter(start));
     }
 
 }
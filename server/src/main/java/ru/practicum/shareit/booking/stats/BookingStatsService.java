@@ -0,0 +1,38 @@
+package ru.practicum.shareit.booking.stats;
+
+import ru.practicum.shareit.booking.dto.OwnerBookingStatsDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.Collection;
+
+public interface BookingStatsService {
+
+    OwnerBookingStatsDto getStatsByItemOwner(long ownerId);
+
+    /**
+     * Заводит нулевые счётчики для новой вещи. Вызывается в транзакции, которая сохраняет вещь.
+     */
+    void onItemAdded(Item item);
+
+    /**
+     * То же, что {@link #onItemAdded}, для пакета вещей: строки счётчиков вставляются пакетом.
+     */
+    void onItemsAdded(Collection<Item> items);
+
+    /**
+     * Переносит бронирование из счётчика прежнего статуса в счётчик нового.
+     * Вызывается в транзакции, которая сохраняет бронирование.
+     *
+     * @param previousStatus статус до изменения или {@code null} для нового бронирования
+     */
+    void onBookingSaved(Booking booking, Status previousStatus);
+
+    /**
+     * То же, что {@link #onBookingSaved}, для пакета бронирований с одинаковым прежним статусом:
+     * счётчики каждой вещи обновляются одним запросом.
+     */
+    void onBookingsSaved(Collection<Booking> bookings, Status previousStatus);
+
+}
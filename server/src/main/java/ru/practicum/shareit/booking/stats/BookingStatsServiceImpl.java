@@ -0,0 +1,154 @@
+package ru.practicum.shareit.booking.stats;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingStatsDto;
+import ru.practicum.shareit.booking.dto.OwnerBookingStatsDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Статистика бронирований для владельца вещей.
+ * Счётчики по статусам хранятся в {@code item_booking_stats} и обновляются вместе с бронированием,
+ * поэтому не зависят от длины истории. Состояния зависят от текущего времени и счётчиками
+ * не поддерживаются: их считает запрос по незакончившимся бронированиям, а число завершённых
+ * получается вычитанием из счётчика подтверждённых.
+ */
+@Service
+public class BookingStatsServiceImpl implements BookingStatsService {
+
+    private final ItemBookingStatsRepository itemBookingStatsRepository;
+    private final UserExistenceChecker userExistenceChecker;
+
+    public BookingStatsServiceImpl(ItemBookingStatsRepository itemBookingStatsRepository,
+                                   UserExistenceChecker userExistenceChecker) {
+        this.itemBookingStatsRepository = itemBookingStatsRepository;
+        this.userExistenceChecker = userExistenceChecker;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OwnerBookingStatsDto getStatsByItemOwner(long ownerId) {
+        userExistenceChecker.requireExists(ownerId);
+
+        List<ItemBookingStats> stats = itemBookingStatsRepository.findAllByItemOwnerId(ownerId);
+        Map<Long, UnfinishedBookingCounts> unfinished = itemBookingStatsRepository
+                .countUnfinishedBookingsByItemOwnerId(ownerId, LocalDateTime.now())
+                .stream()
+                .collect(Collectors.toMap(UnfinishedBookingCounts::getItemId, Function.identity()));
+
+        BookingStatsDto total = new BookingStatsDto(null, emptyStatusCounts(), emptyStateCounts());
+        List<BookingStatsDto> items = new ArrayList<>(stats.size());
+
+        for (ItemBookingStats itemStats : stats) {
+            BookingStatsDto itemStatsDto = toBookingStatsDto(itemStats, unfinished.get(itemStats.getItemId()));
+            addTo(total, itemStatsDto);
+            items.add(itemStatsDto);
+        }
+
+        return new OwnerBookingStatsDto(total, items);
+    }
+
+    @Override
+    @Transactional
+    public void onItemAdded(Item item) {
+        onItemsAdded(List.of(item));
+    }
+
+    @Override
+    @Transactional
+    public void onItemsAdded(Collection<Item> items) {
+        itemBookingStatsRepository.saveAll(items
+                .stream()
+                .map(item -> new ItemBookingStats(item.getId()))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    @Transactional
+    public void onBookingSaved(Booking booking, Status previousStatus) {
+        onBookingsSaved(List.of(booking), previousStatus);
+    }
+
+    @Override
+    @Transactional
+    public void onBookingsSaved(Collection<Booking> bookings, Status previousStatus) {
+        Map<Long, EnumMap<Status, Long>> deltasByItem = new HashMap<>();
+
+        for (Booking booking : bookings) {
+            if (booking.getStatus() == previousStatus) {
+                continue;
+            }
+
+            EnumMap<Status, Long> deltas = deltasByItem.computeIfAbsent(booking.getItem().getId(),
+                    itemId -> emptyStatusCounts());
+            deltas.merge(booking.getStatus(), 1L, Long::sum);
+
+            if (previousStatus != null) {
+                deltas.merge(previousStatus, -1L, Long::sum);
+            }
+        }
+
+        deltasByItem.forEach((itemId, deltas) -> itemBookingStatsRepository.increment(itemId,
+                deltas.get(Status.WAITING),
+                deltas.get(Status.APPROVED),
+                deltas.get(Status.REJECTED),
+                deltas.get(Status.CANCELLED)));
+    }
+
+    private static BookingStatsDto toBookingStatsDto(ItemBookingStats stats, UnfinishedBookingCounts unfinished) {
+        EnumMap<Status, Long> byStatus = emptyStatusCounts();
+        byStatus.put(Status.WAITING, stats.getWaiting());
+        byStatus.put(Status.APPROVED, stats.getApproved());
+        byStatus.put(Status.REJECTED, stats.getRejected());
+        byStatus.put(Status.CANCELLED, stats.getCancelled());
+
+        EnumMap<State, Long> byState = emptyStateCounts();
+        if (unfinished != null) {
+            byState.put(State.CURRENT, unfinished.getCurrent());
+            byState.put(State.FUTURE, unfinished.getFuture());
+            byState.put(State.PAST, stats.getApproved() - unfinished.getApproved());
+        } else {
+            byState.put(State.PAST, stats.getApproved());
+        }
+
+        return new BookingStatsDto(stats.getItemId(), byStatus, byState);
+    }
+
+    private static void addTo(BookingStatsDto total, BookingStatsDto itemStats) {
+        itemStats.getByStatus().forEach((status, count) -> total.getByStatus().merge(status, count, Long::sum));
+        itemStats.getByState().forEach((state, count) -> total.getByState().merge(state, count, Long::sum));
+    }
+
+    private static EnumMap<Status, Long> emptyStatusCounts() {
+        EnumMap<Status, Long> counts = new EnumMap<>(Status.class);
+
+        for (Status status : Status.values()) {
+            counts.put(status, 0L);
+        }
+
+        return counts;
+    }
+
+    private static EnumMap<State, Long> emptyStateCounts() {
+        EnumMap<State, Long> counts = new EnumMap<>(State.class);
+        counts.put(State.CURRENT, 0L);
+        counts.put(State.PAST, 0L);
+        counts.put(State.FUTURE, 0L);
+        return counts;
+    }
+
+}
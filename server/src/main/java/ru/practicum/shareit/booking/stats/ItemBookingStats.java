@@ -0,0 +1,63 @@
+package ru.practicum.shareit.booking.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+
+/**
+ * Счётчики бронирований вещи по статусам. Строка создаётся вместе с вещью,
+ * счётчики меняются тем же запросом, что и сохраняет бронирование, см. {@link BookingStatsService}.
+ */
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "item_booking_stats")
+public class ItemBookingStats implements Persistable<Long> {
+
+    @Id
+    @Column(name = "item_id")
+    Long itemId;
+
+    @Column(name = "waiting")
+    long waiting;
+
+    @Column(name = "approved")
+    long approved;
+
+    @Column(name = "rejected")
+    long rejected;
+
+    @Column(name = "cancelled")
+    long cancelled;
+
+    /**
+     * Идентификатор назначается вручную, поэтому без этого признака {@code save} выполнял бы {@code merge}
+     * с лишним SELECT перед каждой вставкой.
+     */
+    transient boolean persisted;
+
+    public ItemBookingStats(long itemId) {
+        this.itemId = itemId;
+    }
+
+    @Override
+    public Long getId() {
+        return itemId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.booking.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ItemBookingStatsRepository extends JpaRepository<ItemBookingStats, Long> {
+
+    @Modifying
+    @Query("UPDATE ItemBookingStats s " +
+            "SET s.waiting = s.waiting + ?2, " +
+            "s.approved = s.approved + ?3, " +
+            "s.rejected = s.rejected + ?4, " +
+            "s.cancelled = s.cancelled + ?5 " +
+            "WHERE s.itemId = ?1"
+    )
+    int increment(Long itemId, long waiting, long approved, long rejected, long cancelled);
+
+    @Query("SELECT s " +
+            "FROM ItemBookingStats s, Item i " +
+            "WHERE i.id = s.itemId " +
+            "AND i.owner.id = ?1 " +
+            "ORDER BY s.itemId ASC"
+    )
+    List<ItemBookingStats> findAllByItemOwnerId(Long ownerId);
+
+    @Query("SELECT new ru.practicum.shareit.booking.stats.UnfinishedBookingCounts(b.item.id, " +
+            "SUM(CASE WHEN b.status IN ('REJECTED', 'APPROVED') AND b.start < ?2 AND b.end > ?2 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN b.status IN ('WAITING', 'APPROVED') AND b.start > ?2 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'APPROVED' THEN 1 ELSE 0 END)) " +
+            "FROM Booking b " +
+            "WHERE b.item.owner.id = ?1 " +
+            "AND b.end >= ?2 " +
+            "GROUP BY b.item.id"
+    )
+    List<UnfinishedBookingCounts> countUnfinishedBookingsByItemOwnerId(Long ownerId, LocalDateTime now);
+
+}
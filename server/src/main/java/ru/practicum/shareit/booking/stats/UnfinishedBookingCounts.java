@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Бронирования вещи, которые ещё не закончились: из них складываются счётчики по состояниям.
+ */
+@AllArgsConstructor
+@Getter
+public class UnfinishedBookingCounts {
+
+    long itemId;
+
+    long current;
+
+    long future;
+
+    long approved;
+
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.export;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Поля, содержащие запятую, кавычку или перевод строки, заключаются в кавычки по RFC 4180.
+ */
+class CsvExportWriter<T> implements ExportWriter<T> {
+
+    private final Writer writer;
+
+    private final Map<String, Function<T, Object>> columns;
+
+    CsvExportWriter(OutputStream output, Map<String, Function<T, Object>> columns) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.columns = columns;
+
+        writeRecord(columns.keySet());
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        List<Object> values = new ArrayList<>(columns.size());
+
+        for (Function<T, Object> column : columns.values()) {
+            values.add(column.apply(row));
+        }
+
+        writeRecord(values);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeRecord(Iterable<?> values) throws IOException {
+        boolean first = true;
+
+        for (Object value : values) {
+            if (!first) {
+                writer.write(',');
+            }
+
+            writeField(value != null ? value.toString() : "");
+            first = false;
+        }
+
+        writer.write("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.export;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Асинхронная обработка запросов на сервере используется только выгрузками, поэтому её исполнитель —
+ * отдельный ограниченный пул вместо общего {@code applicationTaskExecutor} с неограниченной очередью.
+ * Когда пул и очередь заняты, выгрузка пишется в потоке Tomcat, принявшем запрос: новые выгрузки
+ * сдерживаются пулом Tomcat, а не копятся в очереди до истечения таймаута.
+ */
+@Configuration
+@EnableConfigurationProperties(ExportProperties.class)
+public class ExportConfig implements WebMvcConfigurer {
+
+    private final ExportProperties properties;
+
+    public ExportConfig(ExportProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor exportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("export-");
+        executor.setCorePoolSize(properties.getThreads());
+        executor.setMaxPoolSize(properties.getThreads());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportTaskExecutor());
+    }
+
+}
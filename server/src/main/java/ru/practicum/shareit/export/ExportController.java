@@ -0,0 +1,51 @@
+package ru.practicum.shareit.export;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @Autowired
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/bookings/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(@RequestHeader(value = "X-Sharer-User-Id") long bookerId,
+                                                                @RequestParam(defaultValue = "ALL", required = false) String state,
+                                                                @RequestParam(defaultValue = "jsonl", required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return toResponse(exportFormat, exportService.exportBookings(bookerId, state, exportFormat));
+    }
+
+    @GetMapping("/bookings/owner/export")
+    public ResponseEntity<StreamingResponseBody> exportBookingsByItemOwner(@RequestHeader(value = "X-Sharer-User-Id") long ownerId,
+                                                                           @RequestParam(defaultValue = "ALL", required = false) String state,
+                                                                           @RequestParam(defaultValue = "jsonl", required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return toResponse(exportFormat, exportService.exportBookingsByItemOwner(ownerId, state, exportFormat));
+    }
+
+    @GetMapping("/items/export")
+    public ResponseEntity<StreamingResponseBody> exportItemsByOwner(@RequestHeader(value = "X-Sharer-User-Id") long ownerId,
+                                                                    @RequestParam(defaultValue = "jsonl", required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return toResponse(exportFormat, exportService.exportItemsByOwner(ownerId, exportFormat));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> toResponse(ExportFormat format, StreamingResponseBody body) {
+        return ResponseEntity
+                .ok()
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+
+}
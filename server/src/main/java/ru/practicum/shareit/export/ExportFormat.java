@@ -0,0 +1,57 @@
+package ru.practicum.shareit.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import javax.validation.ValidationException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Формат выгрузки, выбирается параметром запроса {@code format}.
+ */
+@Getter
+public enum ExportFormat {
+
+    /**
+     * Один объект в формате JSON на строку, в том же виде, что и в ответах API.
+     */
+    JSON_LINES("jsonl", MediaType.parseMediaType("application/x-ndjson")),
+
+    /**
+     * CSV с заголовком, в кодировке UTF-8.
+     */
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String parameter;
+
+    private final MediaType mediaType;
+
+    ExportFormat(String parameter, MediaType mediaType) {
+        this.parameter = parameter;
+        this.mediaType = mediaType;
+    }
+
+    public static ExportFormat of(String parameter) {
+        for (ExportFormat format : values()) {
+            if (format.parameter.equalsIgnoreCase(parameter)) {
+                return format;
+            }
+        }
+
+        throw new ValidationException("Неподдерживаемый формат выгрузки: " + parameter);
+    }
+
+    /**
+     * @param csvColumns столбцы CSV в порядке вывода: название и значение для строки
+     */
+    <T> ExportWriter<T> open(OutputStream output, ObjectMapper objectMapper, Map<String, Function<T, Object>> csvColumns) throws IOException {
+        return this == JSON_LINES
+                ? new JsonLinesExportWriter<>(output, objectMapper)
+                : new CsvExportWriter<>(output, csvColumns);
+    }
+
+}
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.export;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Ограничения пула потоков, в котором тела выгрузок записываются клиентам.
+ */
+@ConfigurationProperties(prefix = "shareit.export")
+@Getter
+@Setter
+public class ExportProperties {
+
+    /**
+     * Число выгрузок, которые пишутся одновременно; каждая держит соединение с базой.
+     */
+    private int threads = 4;
+
+    /**
+     * Сколько выгрузок может ждать свободного потока. Сверх этого выгрузка пишется в потоке запроса.
+     */
+    private int queueCapacity = 16;
+
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.export;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Выгрузка без ограничения размера. Параметры проверяются при вызове, а данные читаются из базы
+ * в отдельной транзакции только для чтения, пока возвращённое тело ответа записывается клиенту,
+ * поэтому память не зависит от размера выгрузки.
+ */
+public interface ExportService {
+
+    StreamingResponseBody exportBookings(long bookerId, String state, ExportFormat format);
+
+    StreamingResponseBody exportBookingsByItemOwner(long ownerId, String state, ExportFormat format);
+
+    StreamingResponseBody exportItemsByOwner(long ownerId, ExportFormat format);
+
+}
@@ -0,0 +1,136 @@
+package ru.practicum.shareit.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.repository.BookingFilter;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    /**
+     * Через столько строк записанное отправляется клиенту, а прочитанные сущности
+     * удаляются из контекста персистентности.
+     */
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final Map<String, Function<BookingDto, Object>> BOOKING_COLUMNS = new LinkedHashMap<>();
+
+    private static final Map<String, Function<ItemDto, Object>> ITEM_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        BOOKING_COLUMNS.put("id", BookingDto::getId);
+        BOOKING_COLUMNS.put("start", BookingDto::getStart);
+        BOOKING_COLUMNS.put("end", BookingDto::getEnd);
+        BOOKING_COLUMNS.put("status", BookingDto::getStatus);
+        BOOKING_COLUMNS.put("itemId", booking -> booking.getItem().getId());
+        BOOKING_COLUMNS.put("itemName", booking -> booking.getItem().getName());
+        BOOKING_COLUMNS.put("bookerId", booking -> booking.getBooker().getId());
+
+        ITEM_COLUMNS.put("id", ItemDto::getId);
+        ITEM_COLUMNS.put("name", ItemDto::getName);
+        ITEM_COLUMNS.put("description", ItemDto::getDescription);
+        ITEM_COLUMNS.put("available", ItemDto::getAvailable);
+        ITEM_COLUMNS.put("requestId", ItemDto::getRequestId);
+    }
+
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final UserExistenceChecker userExistenceChecker;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ExportServiceImpl(BookingRepository bookingRepository,
+                             ItemRepository itemRepository,
+                             UserExistenceChecker userExistenceChecker,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.bookingRepository = bookingRepository;
+        this.itemRepository = itemRepository;
+        this.userExistenceChecker = userExistenceChecker;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public StreamingResponseBody exportBookings(long bookerId, String state, ExportFormat format) {
+        userExistenceChecker.requireExists(bookerId);
+        BookingFilter filter = BookingFilter.ofBooker(bookerId, State.parse(state));
+
+        return export(format, BOOKING_COLUMNS, () -> bookingRepository.streamAllByFilter(filter), BookingMapper::toBookingDto);
+    }
+
+    @Override
+    public StreamingResponseBody exportBookingsByItemOwner(long ownerId, String state, ExportFormat format) {
+        userExistenceChecker.requireExists(ownerId);
+        BookingFilter filter = BookingFilter.ofItemOwner(ownerId, State.parse(state));
+
+        return export(format, BOOKING_COLUMNS, () -> bookingRepository.streamAllByFilter(filter), BookingMapper::toBookingDto);
+    }
+
+    @Override
+    public StreamingResponseBody exportItemsByOwner(long ownerId, ExportFormat format) {
+        userExistenceChecker.requireExists(ownerId);
+
+        return export(format, ITEM_COLUMNS, () -> itemRepository.streamAllByOwnerIdOrderByIdAsc(ownerId), ItemMapper::toItemDto);
+    }
+
+    private <E, T> StreamingResponseBody export(ExportFormat format,
+                                                Map<String, Function<T, Object>> csvColumns,
+                                                Supplier<Stream<E>> rows,
+                                                Function<E, T> mapper) {
+        return output -> {
+            ExportWriter<T> writer = format.open(output, objectMapper, csvColumns);
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    try (Stream<E> stream = rows.get()) {
+                        Iterator<E> iterator = stream.iterator();
+                        long count = 0;
+
+                        while (iterator.hasNext()) {
+                            writer.write(mapper.apply(iterator.next()));
+
+                            if (++count % FLUSH_INTERVAL == 0) {
+                                writer.flush();
+                                entityManager.clear();
+                            }
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            writer.flush();
+        };
+    }
+
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.export;
+
+import java.io.IOException;
+
+/**
+ * Запись строк выгрузки в выходной поток. Строки буферизуются, в поток они попадают при {@link #flush}.
+ */
+interface ExportWriter<T> {
+
+    void write(T row) throws IOException;
+
+    void flush() throws IOException;
+
+}
@@ -1,13 +1,31 @@
 package ru.practicum.shareit.item.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.availability.AvailabilityService;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentRequestBody;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemExtendedDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.importing.ItemImportFormat;
+import ru.practicum.shareit.item.importing.ItemImportService;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPage;
+import ru.practicum.shareit.pagination.PagingPolicy;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Collection;
 
 @RestController
@@ -15,10 +33,19 @@ import java.util.Collection;
 public class ItemController {
 
     private final ItemService itemService;
+    private final AvailabilityService availabilityService;
+    private final ItemImportService itemImportService;
+    private final PagingPolicy pagingPolicy;
 
     @Autowired
-    public ItemController(ItemService itemService) {
+    public ItemController(ItemService itemService,
+                          AvailabilityService availabilityService,
+                          ItemImportService itemImportService,
+                          PagingPolicy pagingPolicy) {
         this.itemService = itemService;
+        this.availabilityService = availabilityService;
+        this.itemImportService = itemImportService;
+        this.pagingPolicy = pagingPolicy;
     }
 
     @PostMapping
@@ -26,12 +53,27 @@ public class ItemController {
         return itemService.addItem(ownerId, itemDto);
     }
 
+    @PostMapping(path = "/import", consumes = {ItemImportFormat.JSON_LINES_VALUE, ItemImportFormat.CSV_VALUE})
+    public ItemImportResultDto importItems(@RequestHeader(value = "X-Sharer-User-Id") long ownerId,
+                                           @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                           InputStream body) throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return itemImportService.importItems(ownerId, ItemImportFormat.of(contentType), body, charset);
+    }
+
     @GetMapping("/{itemId}")
     public ItemExtendedDto getItem(@RequestHeader(value = "X-Sharer-User-Id") long userId,
                                    @PathVariable long itemId) {
         return itemService.getItem(userId, itemId);
     }
 
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailabilityDto getItemAvailability(@PathVariable long itemId,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return availabilityService.getAvailability(itemId, from, to);
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDto updateItem(@RequestHeader(value = "X-Sharer-User-Id") long ownerId,
                               @PathVariable long itemId,
@@ -46,17 +88,39 @@ public class ItemController {
     }
 
     @GetMapping
-    public Collection<ItemExtendedDto> getItemsByOwnerId(@RequestHeader(value = "X-Sharer-User-Id") long ownerId,
-                                                         @RequestParam(required = false) Integer from,
-                                                         @RequestParam(required = false) Integer size) {
-        return itemService.getItemsByOwnerId(ownerId, from, size);
+    public ResponseEntity<Collection<ItemExtendedDto>> getItemsByOwnerId(@RequestHeader(value = "X-Sharer-User-Id") long ownerId,
+                                                                         @RequestParam(required = false) Integer from,
+                                                                         @RequestParam(required = false) Integer size) {
+        return OffsetPage.toResponse(itemService.getItemsByOwnerId(ownerId, from, size),
+                from,
+                pagingPolicy.pageSize(size));
     }
 
     @GetMapping("/search")
-    public Collection<ItemDto> searchItems(@RequestParam String text,
-                                           @RequestParam(required = false) Integer from,
-                                           @RequestParam(required = false) Integer size) {
-        return itemService.searchItems(text, from, size);
+    public ResponseEntity<Collection<ItemDto>> searchItems(@RequestParam String text,
+                                                           @RequestParam(required = false) Integer from,
+                                                           @RequestParam(required = false) Integer size) {
+        return OffsetPage.toResponse(itemService.searchItems(text, from, size),
+                from,
+                pagingPolicy.pageSize(size));
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<Collection<ItemExtendedDto>> getItemsByOwnerIdAfter(@RequestHeader(value = "X-Sharer-User-Id") long ownerId,
+                                                                              @RequestParam String cursor,
+                                                                              @RequestParam(required = false) Integer size) {
+        return CursorPage.toResponse(itemService.getItemsByOwnerIdAfter(ownerId, cursor, size),
+                size,
+                item -> Cursor.of(item.getId()));
+    }
+
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<Collection<ItemDto>> searchItemsAfter(@RequestParam String text,
+                                                                @RequestParam String cursor,
+                                                                @RequestParam(required = false) Integer size) {
+        return CursorPage.toResponse(itemService.searchItemsAfter(text, cursor, size),
+                size,
+                item -> Cursor.of(item.getId()));
     }
 
     @PostMapping("/{itemId}/comment")
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Getter
+public class ItemAvailabilityDto {
+
+    long itemId;
+
+    LocalDateTime from;
+
+    LocalDateTime to;
+
+    boolean available;
+
+    LocalDateTime nextFreeStart;
+
+    LocalDateTime nextFreeEnd;
+
+}
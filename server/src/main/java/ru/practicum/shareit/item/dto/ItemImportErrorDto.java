@@ -0,0 +1,17 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Строка файла импорта, которая не была сохранена, и причина.
+ */
+@AllArgsConstructor
+@Getter
+public class ItemImportErrorDto {
+
+    long row;
+
+    String error;
+
+}
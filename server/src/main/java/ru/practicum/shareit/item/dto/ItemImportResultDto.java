@@ -0,0 +1,23 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Итог импорта вещей. В {@code errors} попадают только первые ошибки, остальные учтены в {@code failed}.
+ */
+@AllArgsConstructor
+@Getter
+public class ItemImportResultDto {
+
+    long processed;
+
+    long imported;
+
+    long failed;
+
+    List<ItemImportErrorDto> errors;
+
+}
@@ -0,0 +1,163 @@
+package ru.practicum.shareit.item.importing;
+
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import javax.validation.ValidationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Разбор CSV по RFC 4180: поля в двойных кавычках могут содержать запятые, переводы строк
+ * и удвоенные кавычки. Заголовок читается в конструкторе, ошибка в нём прерывает импорт целиком.
+ */
+class CsvItemReader implements ItemRowReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "description", "available");
+
+    private final BufferedReader reader;
+
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    private long row;
+
+    CsvItemReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+
+        List<String> header = readRecord();
+
+        if (header == null) {
+            throw new ValidationException("Файл CSV пуст");
+        }
+
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new ValidationException("В заголовке CSV нет столбца " + column);
+            }
+        }
+    }
+
+    @Override
+    public ItemDto next() throws IOException {
+        List<String> record;
+
+        do {
+            try {
+                record = readRecord();
+            } catch (ValidationException e) {
+                row++;
+                throw e;
+            }
+
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        row++;
+
+        return new ItemDto(0,
+                value(record, "name"),
+                value(record, "description"),
+                parseAvailable(value(record, "available")),
+                0,
+                parseRequestId(value(record, "requestId")));
+    }
+
+    @Override
+    public long getRow() {
+        return row;
+    }
+
+    private String value(List<String> record, String column) {
+        Integer index = columns.get(column);
+
+        if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+
+        return record.get(index);
+    }
+
+    private static Boolean parseAvailable(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value.equalsIgnoreCase("true")) {
+            return true;
+        }
+
+        if (value.equalsIgnoreCase("false")) {
+            return false;
+        }
+
+        throw new ValidationException("Значение столбца available должно быть true или false: " + value);
+    }
+
+    private static Long parseRequestId(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Значение столбца requestId должно быть числом: " + value);
+        }
+    }
+
+    /**
+     * Читает одну запись до перевода строки вне кавычек. Возвращает {@code null} в конце файла.
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new ValidationException("Не закрыты кавычки в поле " + (fields.size() + 1));
+                }
+
+                if (c == '"') {
+                    c = reader.read();
+
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+
+                field.append((char) c);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+
+            c = reader.read();
+        }
+    }
+
+}
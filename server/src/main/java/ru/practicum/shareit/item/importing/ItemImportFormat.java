@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import javax.validation.ValidationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Форматы файла импорта вещей. Формат определяется заголовком {@code Content-Type} запроса.
+ */
+public enum ItemImportFormat {
+
+    /**
+     * Одна вещь в формате JSON на строку, пустые строки пропускаются.
+     */
+    JSON_LINES,
+
+    /**
+     * CSV с заголовком. Обязательные столбцы: {@code name}, {@code description}, {@code available};
+     * необязательный — {@code requestId}.
+     */
+    CSV;
+
+    public static final String JSON_LINES_VALUE = "application/x-ndjson";
+
+    public static final String CSV_VALUE = "text/csv";
+
+    public static ItemImportFormat of(MediaType contentType) {
+        if (contentType.isCompatibleWith(MediaType.parseMediaType(JSON_LINES_VALUE))) {
+            return JSON_LINES;
+        }
+
+        if (contentType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+            return CSV;
+        }
+
+        throw new ValidationException("Неподдерживаемый формат файла импорта: " + contentType);
+    }
+
+    ItemRowReader open(BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        return this == JSON_LINES
+                ? new JsonLinesItemReader(reader, objectMapper)
+                : new CsvItemReader(reader);
+    }
+
+}
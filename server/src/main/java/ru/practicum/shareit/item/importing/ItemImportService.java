@@ -0,0 +1,19 @@
+package ru.practicum.shareit.item.importing;
+
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+public interface ItemImportService {
+
+    /**
+     * Создаёт вещи владельца из файла, читая его потоком: память не зависит от размера файла.
+     * Строки с ошибками пропускаются и перечисляются в результате, остальные сохраняются пачками,
+     * каждая пачка в своей транзакции. Пачка, отклонённая базой, целиком учитывается как ошибочная,
+     * а импорт продолжается со следующей: ранее сохранённые пачки не откатываются.
+     */
+    ItemImportResultDto importItems(long ownerId, ItemImportFormat format, InputStream input, Charset charset) throws IOException;
+
+}
@@ -0,0 +1,214 @@
+package ru.practicum.shareit.item.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.stats.BookingStatsService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportErrorDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearch;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Импорт читает файл пачками по {@link #CHUNK_SIZE} строк. Для пачки одним запросом загружаются
+ * упомянутые запросы вещей, затем вещи и их счётчики бронирований вставляются пакетно в одной транзакции,
+ * после чего контекст персистентности очищается, чтобы сохранённые вещи не копились в памяти.
+ */
+@Service
+@Slf4j
+public class ItemImportServiceImpl implements ItemImportService {
+
+    /**
+     * Кратно {@code hibernate.jdbc.batch_size}, чтобы пачка уходила в базу полными пакетами.
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * Ошибки сверх этого числа только подсчитываются, чтобы ответ не рос вместе с файлом.
+     */
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearch itemSearch;
+    private final BookingStatsService bookingStatsService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ItemImportServiceImpl(UserRepository userRepository,
+                                 ItemRepository itemRepository,
+                                 ItemRequestRepository itemRequestRepository,
+                                 ItemSearch itemSearch,
+                                 BookingStatsService bookingStatsService,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.itemRepository = itemRepository;
+        this.itemRequestRepository = itemRequestRepository;
+        this.itemSearch = itemSearch;
+        this.bookingStatsService = bookingStatsService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        this.validator = factory.getValidator();
+    }
+
+    @Override
+    public ItemImportResultDto importItems(long ownerId, ItemImportFormat format, InputStream input, Charset charset) throws IOException {
+        Optional<User> owner = userRepository.findById(ownerId);
+
+        if (owner.isEmpty()) {
+            throw new NoSuchElementException("Пользователя с идентификатором " + ownerId + " не существует");
+        }
+
+        ItemRowReader rows = format.open(new BufferedReader(new InputStreamReader(input, charset)), objectMapper);
+        List<Item> items = new ArrayList<>(CHUNK_SIZE);
+        List<Long> requestIds = new ArrayList<>(CHUNK_SIZE);
+        List<Long> rowNumbers = new ArrayList<>(CHUNK_SIZE);
+        List<ItemImportErrorDto> errors = new ArrayList<>();
+        long imported = 0;
+        long failed = 0;
+
+        while (true) {
+            ItemDto itemDto;
+
+            try {
+                itemDto = rows.next();
+
+                if (itemDto == null) {
+                    break;
+                }
+
+                items.add(toItem(itemDto, owner.get()));
+                requestIds.add(itemDto.getRequestId());
+                rowNumbers.add(rows.getRow());
+            } catch (ValidationException e) {
+                failed++;
+
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new ItemImportErrorDto(rows.getRow(), e.getMessage()));
+                }
+
+                continue;
+            }
+
+            if (items.size() == CHUNK_SIZE) {
+                int chunkSize = items.size();
+                int saved = saveChunk(items, requestIds, rowNumbers, errors);
+                imported += saved;
+                failed += chunkSize - saved;
+                log.info("Item import progress, ownerId={}, rows={}, imported={}, failed={}",
+                        ownerId, rows.getRow(), imported, failed);
+            }
+        }
+
+        int chunkSize = items.size();
+        int saved = saveChunk(items, requestIds, rowNumbers, errors);
+        imported += saved;
+        failed += chunkSize - saved;
+        log.info("Item import finished, ownerId={}, rows={}, imported={}, failed={}",
+                ownerId, rows.getRow(), imported, failed);
+
+        return new ItemImportResultDto(rows.getRow(), imported, failed, errors);
+    }
+
+    private Item toItem(ItemDto itemDto, User owner) {
+        Item item = ItemMapper.toItem(itemDto);
+        item.setId(null);
+
+        Set<ConstraintViolation<Item>> violations = validator.validate(item);
+        for (ConstraintViolation<Item> violation : violations) {
+            throw new ValidationException("Валидация не пройдена: " + violation.getMessage());
+        }
+
+        item.setOwner(owner);
+        return item;
+    }
+
+    /**
+     * Сохраняет накопленную пачку и очищает списки для следующей. Если база отклонила пачку, её транзакция
+     * откатывается целиком, все строки пачки попадают в ошибки, а уже сохранённые пачки остаются в базе:
+     * импорт не атомарен, и результат описывает то, что действительно сохранено.
+     *
+     * @return число сохранённых строк: размер пачки или ноль
+     */
+    private int saveChunk(List<Item> items, List<Long> requestIds, List<Long> rowNumbers, List<ItemImportErrorDto> errors) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> distinctRequestIds = requestIds
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, ItemRequest> itemRequests = itemRequestRepository
+                .findAllById(distinctRequestIds)
+                .stream()
+                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+
+        for (int i = 0; i < items.size(); i++) {
+            Long requestId = requestIds.get(i);
+
+            if (requestId != null) {
+                items.get(i).setRequest(itemRequests.get(requestId));
+            }
+        }
+
+        int saved = items.size();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Item> savedItems = itemRepository.saveAll(items);
+                bookingStatsService.onItemsAdded(savedItems);
+                savedItems.forEach(itemSearch::index);
+            });
+        } catch (DataAccessException e) {
+            log.warn("Item import chunk rejected, rows={}..{}",
+                    rowNumbers.get(0), rowNumbers.get(rowNumbers.size() - 1), e);
+            saved = 0;
+
+            for (Long row : rowNumbers) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new ItemImportErrorDto(row, "Пачка строк не сохранена: " + e.getMostSpecificCause().getMessage()));
+                }
+            }
+        } finally {
+            entityManager.clear();
+        }
+
+        items.clear();
+        requestIds.clear();
+        rowNumbers.clear();
+        return saved;
+    }
+
+}
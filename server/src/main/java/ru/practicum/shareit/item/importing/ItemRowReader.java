@@ -0,0 +1,25 @@
+package ru.practicum.shareit.item.importing;
+
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import javax.validation.ValidationException;
+import java.io.IOException;
+
+/**
+ * Последовательное чтение строк файла импорта. В памяти держится только текущая строка.
+ */
+interface ItemRowReader {
+
+    /**
+     * Читает следующую строку. Возвращает {@code null}, если строки закончились.
+     * Если строку не удалось разобрать, она всё равно считается прочитанной и выбрасывается
+     * {@link ValidationException}: чтение можно продолжить со следующей строки.
+     */
+    ItemDto next() throws IOException;
+
+    /**
+     * Номер последней прочитанной строки данных, начиная с единицы.
+     */
+    long getRow();
+
+}
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.item.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import javax.validation.ValidationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+class JsonLinesItemReader implements ItemRowReader {
+
+    private final BufferedReader reader;
+
+    private final ObjectMapper objectMapper;
+
+    private long row;
+
+    JsonLinesItemReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ItemDto next() throws IOException {
+        String line;
+
+        do {
+            line = reader.readLine();
+
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        row++;
+
+        try {
+            return objectMapper.readValue(line, ItemDto.class);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Строка не является описанием вещи в формате JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public long getRow() {
+        return row;
+    }
+
+}
@@ -1,12 +1,22 @@
 package ru.practicum.shareit.item.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Comment;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Collection<Comment> findAllByItemIdOrderByIdAsc(Long itemId);
 
+    @Query("SELECT c " +
+            "FROM Comment c " +
+            "JOIN FETCH c.author " +
+            "WHERE c.item.id IN ?1 " +
+            "ORDER BY c.id ASC"
+    )
+    List<Comment> findAllByItemIdInOrderByIdAsc(Collection<Long> itemIds);
+
 }
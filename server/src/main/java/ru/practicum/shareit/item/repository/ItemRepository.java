@@ -4,15 +4,72 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
     Page<Item> findAllByOwnerIdOrderByIdAsc(Long ownerId, Pageable pageable);
 
+    List<Item> findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(Long ownerId, Long id, Pageable pageable);
+
+    /**
+     * Вещи владельца без ограничения размера, читаются из курсора базы порциями. Вызывается в транзакции.
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    Stream<Item> streamAllByOwnerIdOrderByIdAsc(Long ownerId);
+
+    List<Item> findAllByAvailableTrueAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
     @Query("SELECT i from Item i " +
             "WHERE (upper(i.name) LIKE upper(concat('%', ?1, '%')) OR upper(i.description) LIKE upper(concat('%', ?1, '%'))) " +
             "AND i.available = true")
     Page<Item> findAllAvailableItemsByNameOrDescription(String text, Pageable pageable);
 
+    @Query("SELECT i from Item i " +
+            "WHERE (upper(i.name) LIKE upper(concat('%', ?1, '%')) OR upper(i.description) LIKE upper(concat('%', ?1, '%'))) " +
+            "AND i.available = true " +
+            "AND i.id > ?2 " +
+            "ORDER BY i.id ASC")
+    List<Item> findAllAvailableItemsByNameOrDescriptionAndIdGreaterThan(String text, Long id, Pageable pageable);
+
+    @Query("SELECT i from Item i " +
+            "WHERE (lower(i.name) LIKE concat('%', lower(?1), '%') OR lower(i.description) LIKE concat('%', lower(?1), '%')) " +
+            "AND i.available = true " +
+            "ORDER BY i.id ASC")
+    List<Item> findAllAvailableItemsByLowerNameOrDescription(String text, Pageable pageable);
+
+    @Query("SELECT i from Item i " +
+            "WHERE (lower(i.name) LIKE concat('%', lower(?1), '%') OR lower(i.description) LIKE concat('%', lower(?1), '%')) " +
+            "AND i.available = true " +
+            "AND i.id > ?2 " +
+            "ORDER BY i.id ASC")
+    List<Item> findAllAvailableItemsByLowerNameOrDescriptionAndIdGreaterThan(String text, Long id, Pageable pageable);
+
+    @Query(value = "SELECT i.* " +
+            "FROM items i, to_tsquery('simple', ?1) q " +
+            "WHERE i.search_vector @@ q " +
+            "AND i.is_available = true " +
+            "ORDER BY ts_rank(i.search_vector, q) DESC, i.id ASC",
+            nativeQuery = true
+    )
+    List<Item> findAllAvailableItemsByFullTextQuery(String tsQuery, Pageable pageable);
+
+    @Query(value = "SELECT i.* " +
+            "FROM items i " +
+            "WHERE i.search_vector @@ to_tsquery('simple', ?1) " +
+            "AND i.is_available = true " +
+            "AND i.id > ?2 " +
+            "ORDER BY i.id ASC",
+            nativeQuery = true
+    )
+    List<Item> findAllAvailableItemsByFullTextQueryAndIdGreaterThan(String tsQuery, Long id, Pageable pageable);
+
 }
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Полнотекстовый поиск по столбцу {@code items.search_vector} с GIN-индексом (только PostgreSQL,
+ * см. {@code db/migration/postgresql}). Название весит больше описания, каждое слово запроса
+ * сопоставляется по префиксу.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit.item.search", havingValue = "full-text")
+public class FullTextItemSearch implements ItemSearch {
+
+    private final ItemRepository itemRepository;
+
+    public FullTextItemSearch(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        String query = toPrefixQuery(text);
+
+        if (query.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return itemRepository.findAllAvailableItemsByFullTextQuery(query, pageable);
+    }
+
+    @Override
+    public List<Item> searchAfter(String text, long id, Pageable pageable) {
+        String query = toPrefixQuery(text);
+
+        if (query.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return itemRepository.findAllAvailableItemsByFullTextQueryAndIdGreaterThan(query, id, pageable);
+    }
+
+    /**
+     * Преобразует пользовательский ввод в выражение {@code tsquery}: слова, соединённые через {@code &},
+     * каждое с суффиксом {@code :*}. Служебные символы {@code tsquery} отбрасываются вместе с прочей пунктуацией.
+     *
+     * @return выражение или пустая строка, если во вводе нет ни одного слова
+     */
+    static String toPrefixQuery(String text) {
+        return ItemTokenizer.tokenize(text)
+                .stream()
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+}
@@ -0,0 +1,337 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Поиск по инвертированному индексу доступных вещей в памяти процесса: слово → упорядоченный список
+ * идентификаторов. Для СУБД без расширений полнотекстового поиска. Каждое слово запроса сопоставляется
+ * с началом слов вещи, как в {@link FullTextItemSearch}, а не с любой подстрокой, как в режимах {@code like}
+ * и {@code trigram}: «dri» находит «drill», «ill» — нет. К базе данных обращается только за вещами итоговой страницы.
+ * <p>
+ * Для префиксов до {@link #SHORT_PREFIX_LENGTH} символов списки идентификаторов хранятся готовыми, более длинные
+ * собираются из слов с этим префиксом. Списки обходятся на месте и только до конца запрошенной страницы,
+ * поэтому запрос не копирует списки и недолго держит блокировку чтения.
+ * <p>
+ * Индекс заполняется при старте приложения и обновляется сервисом вещей при каждом изменении после
+ * фиксации транзакции. Вещи, изменённые или удалённые во время заполнения, заполнение пропускает,
+ * чтобы прочитанная раньше строка не затёрла более новое состояние.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit.item.search", havingValue = "in-memory")
+@Slf4j
+public class InMemoryItemSearch implements ItemSearch {
+
+    private static final int WARM_UP_BATCH_SIZE = 1000;
+
+    /**
+     * Короткие префиксы встречаются в большинстве вещей, и объединять списки всех их слов на каждый запрос дорого.
+     */
+    private static final int SHORT_PREFIX_LENGTH = 3;
+
+    private final ItemRepository itemRepository;
+
+    private final NavigableMap<String, LongPostings> postings = new TreeMap<>();
+
+    private final Map<String, LongPostings> shortPrefixPostings = new HashMap<>();
+
+    private final Map<Long, Set<String>> itemWords = new HashMap<>();
+
+    private final Set<Long> updatedDuringWarmUp = new HashSet<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Изменения учитываются с момента создания: запросы могут прийти раньше, чем начнётся заполнение.
+     */
+    private boolean warmingUp = true;
+
+    public InMemoryItemSearch(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long lastId = 0;
+        int indexed = 0;
+        List<Item> batch;
+
+        try {
+            do {
+                batch = itemRepository
+                        .findAllByAvailableTrueAndIdGreaterThanOrderByIdAsc(lastId, Pageable.ofSize(WARM_UP_BATCH_SIZE));
+
+                for (Item item : batch) {
+                    warmUpIndex(item);
+                    lastId = item.getId();
+                }
+
+                indexed += batch.size();
+            } while (batch.size() == WARM_UP_BATCH_SIZE);
+        } finally {
+            finishWarmUp();
+        }
+
+        log.info("Search index warmed up, items={}, words={}", indexed, postings.size());
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        long skip = pageable.isPaged()
+                ? pageable.getOffset()
+                : 0;
+
+        return hydrate(match(text, 0, skip, limitOf(pageable)));
+    }
+
+    @Override
+    public List<Item> searchAfter(String text, long id, Pageable pageable) {
+        return hydrate(match(text, id + 1, 0, limitOf(pageable)));
+    }
+
+    @Override
+    public void index(Item item) {
+        long itemId = item.getId();
+        Set<String> words = wordsOf(item);
+        afterCommit(() -> update(itemId, words));
+    }
+
+    @Override
+    public void remove(long itemId) {
+        afterCommit(() -> update(itemId, null));
+    }
+
+    /**
+     * Идентификаторы вещей не меньше {@code from}, в которых для каждого слова запроса есть слово с таким префиксом,
+     * по возрастанию: первые {@code skip} пропускаются, возвращается не больше {@code limit}.
+     */
+    private List<Long> match(String text, long from, long skip, int limit) {
+        List<String> queryWords = ItemTokenizer.tokenize(text);
+        List<Long> result = new ArrayList<>();
+
+        if (queryWords.isEmpty()) {
+            return result;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingsCursor> cursors = new ArrayList<>(queryWords.size());
+
+            for (String queryWord : queryWords) {
+                List<LongPostings> wordPostings = postingsWithPrefix(queryWord);
+
+                if (wordPostings.isEmpty()) {
+                    return result;
+                }
+
+                cursors.add(new PostingsCursor(wordPostings));
+            }
+
+            long target = from;
+            long skipped = 0;
+
+            while (result.size() < limit) {
+                boolean matched = true;
+
+                for (PostingsCursor cursor : cursors) {
+                    long id = cursor.seek(target);
+
+                    if (id == PostingsCursor.END) {
+                        return result;
+                    }
+
+                    if (id > target) {
+                        target = id;
+                        matched = false;
+                    }
+                }
+
+                if (matched) {
+                    if (skipped < skip) {
+                        skipped++;
+                    } else {
+                        result.add(target);
+                    }
+
+                    target++;
+                }
+            }
+
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<LongPostings> postingsWithPrefix(String prefix) {
+        if (prefix.length() <= SHORT_PREFIX_LENGTH) {
+            LongPostings prefixPostings = shortPrefixPostings.get(prefix);
+
+            return prefixPostings != null
+                    ? List.of(prefixPostings)
+                    : List.of();
+        }
+
+        return new ArrayList<>(postings
+                .subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values());
+    }
+
+    private static int limitOf(Pageable pageable) {
+        return pageable.isPaged()
+                ? pageable.getPageSize()
+                : Integer.MAX_VALUE;
+    }
+
+    private List<Item> hydrate(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Item> items = itemRepository
+                .findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        return ids
+                .stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private void finishWarmUp() {
+        lock.writeLock().lock();
+        try {
+            warmingUp = false;
+            updatedDuringWarmUp.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void warmUpIndex(Item item) {
+        Set<String> words = wordsOf(item);
+
+        lock.writeLock().lock();
+        try {
+            if (!updatedDuringWarmUp.contains(item.getId())) {
+                replaceInIndex(item.getId(), words);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Заменяет слова вещи в индексе, {@code null} удаляет вещь из индекса.
+     */
+    private void update(long itemId, Set<String> words) {
+        lock.writeLock().lock();
+        try {
+            if (warmingUp) {
+                updatedDuringWarmUp.add(itemId);
+            }
+
+            replaceInIndex(itemId, words);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replaceInIndex(long itemId, Set<String> words) {
+        removeFromIndex(itemId);
+
+        if (words == null) {
+            return;
+        }
+
+        for (String word : words) {
+            postings.computeIfAbsent(word, key -> new LongPostings()).add(itemId);
+        }
+
+        for (String prefix : shortPrefixesOf(words)) {
+            shortPrefixPostings.computeIfAbsent(prefix, key -> new LongPostings()).add(itemId);
+        }
+
+        itemWords.put(itemId, words);
+    }
+
+    private static Set<String> shortPrefixesOf(Set<String> words) {
+        Set<String> prefixes = new HashSet<>();
+
+        for (String word : words) {
+            for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, word.length()); length++) {
+                prefixes.add(word.substring(0, length));
+            }
+        }
+
+        return prefixes;
+    }
+
+    private static Set<String> wordsOf(Item item) {
+        if (!Boolean.TRUE.equals(item.getAvailable())) {
+            return null;
+        }
+
+        return new HashSet<>(ItemTokenizer.tokenize(item.getName() + " " + item.getDescription()));
+    }
+
+    /**
+     * Внутри транзакции откладывает изменение индекса до её фиксации, чтобы откат не оставил в индексе лишних вещей.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void removeFromIndex(long itemId) {
+        Set<String> words = itemWords.remove(itemId);
+
+        if (words == null) {
+            return;
+        }
+
+        for (String word : words) {
+            LongPostings wordPostings = postings.get(word);
+            wordPostings.remove(itemId);
+
+            if (wordPostings.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+
+        for (String prefix : shortPrefixesOf(words)) {
+            LongPostings prefixPostings = shortPrefixPostings.get(prefix);
+            prefixPostings.remove(itemId);
+
+            if (prefixPostings.isEmpty()) {
+                shortPrefixPostings.remove(prefix);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+/**
+ * Поиск доступных для аренды вещей по названию и описанию.
+ * Реализация выбирается свойством {@code shareit.item.search}: {@code full-text}, {@code trigram},
+ * {@code in-memory} или {@code like}. Режимы {@code like} и {@code trigram} ищут текст как подстроку,
+ * {@code full-text} и {@code in-memory} — каждое слово запроса как начало слова вещи.
+ */
+public interface ItemSearch {
+
+    /**
+     * Возвращает {@code pageable.getPageSize()} вещей начиная с {@code pageable.getOffset()} в порядке релевантности.
+     */
+    List<Item> search(String text, Pageable pageable);
+
+    /**
+     * Возвращает вещи с идентификатором больше {@code id} в порядке возрастания идентификатора.
+     */
+    List<Item> searchAfter(String text, long id, Pageable pageable);
+
+    /**
+     * Сообщает о сохранении вещи. Нужно реализациям, которые ведут собственный индекс:
+     * внутри транзакции они применяют изменение только после её фиксации.
+     */
+    default void index(Item item) {
+    }
+
+    /**
+     * Сообщает об удалении вещи. Как и {@link #index(Item)}, внутри транзакции применяется после фиксации.
+     */
+    default void remove(long itemId) {
+    }
+
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+/**
+ * Поиск подстроки через {@code LIKE}. Работает на любой СУБД, но читает таблицу целиком.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit.item.search", havingValue = "like", matchIfMissing = true)
+public class LikeItemSearch implements ItemSearch {
+
+    private final ItemRepository itemRepository;
+
+    public LikeItemSearch(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        return itemRepository
+                .findAllAvailableItemsByNameOrDescription(text, pageable)
+                .getContent();
+    }
+
+    @Override
+    public List<Item> searchAfter(String text, long id, Pageable pageable) {
+        return itemRepository.findAllAvailableItemsByNameOrDescriptionAndIdGreaterThan(text, id, pageable);
+    }
+
+}
@@ -0,0 +1,75 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.Arrays;
+
+/**
+ * Упорядоченное по возрастанию множество идентификаторов на примитивном массиве.
+ * Идентификаторы новых вещей растут, поэтому добавление почти всегда дописывает в конец.
+ */
+class LongPostings {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+
+    private int size;
+
+    void add(long id) {
+        if (size > 0 && ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+
+        int index = Arrays.binarySearch(ids, 0, size, id);
+
+        if (index >= 0) {
+            return;
+        }
+
+        int insertionPoint = -index - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertionPoint, ids, insertionPoint + 1, size - insertionPoint);
+        ids[insertionPoint] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+
+        if (index < 0) {
+            return;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Позиция первого идентификатора не меньше {@code id}, поиск начинается с позиции {@code from}.
+     * Если такого нет, возвращает {@link #size()}.
+     */
+    int ceilingIndex(long id, int from) {
+        int index = Arrays.binarySearch(ids, from, size, id);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+    }
+
+}
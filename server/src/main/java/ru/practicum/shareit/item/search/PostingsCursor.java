@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.List;
+
+/**
+ * Обход объединения нескольких списков идентификаторов по возрастанию без копирования:
+ * для каждого списка хранится только текущая позиция, которая двигается только вперёд.
+ */
+class PostingsCursor {
+
+    /**
+     * Признак того, что идентификаторы закончились.
+     */
+    static final long END = Long.MAX_VALUE;
+
+    private final List<LongPostings> postings;
+
+    private final int[] positions;
+
+    PostingsCursor(List<LongPostings> postings) {
+        this.postings = postings;
+        this.positions = new int[postings.size()];
+    }
+
+    /**
+     * Наименьший идентификатор не меньше {@code target} или {@link #END}.
+     */
+    long seek(long target) {
+        long min = END;
+
+        for (int i = 0; i < positions.length; i++) {
+            LongPostings list = postings.get(i);
+            int position = positions[i];
+
+            if (position < list.size() && list.get(position) < target) {
+                position = list.ceilingIndex(target, position);
+                positions[i] = position;
+            }
+
+            if (position < list.size()) {
+                min = Math.min(min, list.get(position));
+            }
+        }
+
+        return min;
+    }
+
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+/**
+ * Поиск подстроки с той же семантикой, что и {@link LikeItemSearch}, но по {@code lower(...)},
+ * чтобы {@code LIKE '%text%'} обслуживали триграммные GIN-индексы {@code pg_trgm}
+ * (см. {@code db/migration/postgresql}). Для запросов короче трёх символов индекс не помогает.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit.item.search", havingValue = "trigram")
+public class TrigramItemSearch implements ItemSearch {
+
+    private final ItemRepository itemRepository;
+
+    public TrigramItemSearch(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        return itemRepository.findAllAvailableItemsByLowerNameOrDescription(text, pageable);
+    }
+
+    @Override
+    public List<Item> searchAfter(String text, long id, Pageable pageable) {
+        return itemRepository.findAllAvailableItemsByLowerNameOrDescriptionAndIdGreaterThan(text, id, pageable);
+    }
+
+}
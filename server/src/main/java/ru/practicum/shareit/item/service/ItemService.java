@@ -22,6 +22,10 @@ public interface ItemService {
 
     Collection<ItemDto> searchItems(String query, Integer from, Integer size);
 
+    Collection<ItemExtendedDto> getItemsByOwnerIdAfter(long ownerId, String cursor, Integer size);
+
+    Collection<ItemDto> searchItemsAfter(String query, String cursor, Integer size);
+
     CommentDto addComment(long authorId, long itemId, CommentRequestBody commentRequestBody);
 
 }
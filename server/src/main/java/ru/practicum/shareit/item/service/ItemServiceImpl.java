@@ -2,11 +2,13 @@ package ru.practicum.shareit.item.service;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.exception.AccessDeniedException;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.stats.BookingStatsService;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentRequestBody;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -18,10 +20,14 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearch;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.PagingPolicy;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import javax.validation.*;
 import java.time.LocalDateTime;
@@ -36,24 +42,37 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearch itemSearch;
+    private final UserExistenceChecker userExistenceChecker;
+    private final BookingStatsService bookingStatsService;
+    private final PagingPolicy pagingPolicy;
     private final Validator validator;
 
     public ItemServiceImpl(ItemRepository itemRepository,
                            UserRepository userRepository,
                            BookingRepository bookingRepository,
                            CommentRepository commentRepository,
-                           ItemRequestRepository itemRequestRepository) {
+                           ItemRequestRepository itemRequestRepository,
+                           ItemSearch itemSearch,
+                           UserExistenceChecker userExistenceChecker,
+                           BookingStatsService bookingStatsService,
+                           PagingPolicy pagingPolicy) {
         this.itemRepository = itemRepository;
         this.userRepository = userRepository;
         this.bookingRepository = bookingRepository;
         this.commentRepository = commentRepository;
         this.itemRequestRepository = itemRequestRepository;
+        this.itemSearch = itemSearch;
+        this.userExistenceChecker = userExistenceChecker;
+        this.bookingStatsService = bookingStatsService;
+        this.pagingPolicy = pagingPolicy;
 
         ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
         this.validator = factory.getValidator();
     }
 
     @Override
+    @Transactional
     public ItemDto addItem(long ownerId, ItemDto itemDto) {
         Item item = ItemMapper.toItem(itemDto);
         item.setId(null);
@@ -82,6 +101,8 @@ public class ItemServiceImpl implements ItemService {
         }
 
         item = itemRepository.save(item);
+        bookingStatsService.onItemAdded(item);
+        itemSearch.index(item);
         return ItemMapper.toItemDto(item);
     }
 
@@ -106,6 +127,7 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
+    @Transactional
     public ItemDto updateItem(long ownerId, long itemId, ItemDto itemDto) {
         Optional<Item> existingItem = itemRepository.findById(itemId);
 
@@ -113,13 +135,9 @@ public class ItemServiceImpl implements ItemService {
             throw new NoSuchElementException("Вещи с идентификатором " + itemId + " не существует");
         }
 
-        Optional<User> owner = userRepository.findById(ownerId);
-
-        if (owner.isEmpty()) {
-            throw new NoSuchElementException("Пользователя с идентификатором " + ownerId + " не существует");
-        }
+        userExistenceChecker.requireExists(ownerId);
 
-        if (!Objects.equals(existingItem.get().getOwner().getId(), owner.get().getId())) {
+        if (!Objects.equals(existingItem.get().getOwner().getId(), ownerId)) {
             throw new NoSuchElementException("Вещь с идентификатором " + itemId + " принадлежит другому пользователю");
         }
 
@@ -141,10 +159,12 @@ public class ItemServiceImpl implements ItemService {
         }
 
         Item updatedItem = itemRepository.save(existingItem.get());
+        itemSearch.index(updatedItem);
         return ItemMapper.toItemDto(updatedItem);
     }
 
     @Override
+    @Transactional
     public void removeItem(long ownerId, long itemId) {
         Optional<Item> item = itemRepository.findById(itemId);
 
@@ -157,55 +177,54 @@ public class ItemServiceImpl implements ItemService {
         }
 
         itemRepository.deleteById(itemId);
+        itemSearch.remove(itemId);
     }
 
     @Override
     public Collection<ItemExtendedDto> getItemsByOwnerId(long ownerId, Integer from, Integer size) {
-        if ((from != null && from < 0) || (size != null && size <= 0)) {
-            throw new IllegalArgumentException("Неверные параметры поиска");
-        }
+        List<Item> items = itemRepository
+                .findAllByOwnerIdOrderByIdAsc(ownerId, pagingPolicy.offset(from, size))
+                .getContent();
 
-        if (from == null) {
-            from = 0;
-        }
+        return toItemExtendedDtos(items);
+    }
 
-        if (size == null) {
-            size = Integer.MAX_VALUE;
+    @Override
+    public Collection<ItemDto> searchItems(String query, Integer from, Integer size) {
+        if (query.isEmpty() || query.isBlank()) {
+            return new ArrayList<>();
         }
 
-        return itemRepository
-                .findAllByOwnerIdOrderByIdAsc(ownerId, Pageable.ofSize(from + size))
+        return itemSearch
+                .search(query, pagingPolicy.offset(from, size))
                 .stream()
-                .skip(from)
-                .map(item -> ItemMapper.toItemExtendedDto(item,
-                        getLastBooking(item),
-                        getNextBooking(item),
-                        getComments(item)))
+                .map(ItemMapper::toItemDto)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public Collection<ItemDto> searchItems(String query, Integer from, Integer size) {
-        if (query.isEmpty() || query.isBlank()) {
-            return new ArrayList<>();
-        }
+    public Collection<ItemExtendedDto> getItemsByOwnerIdAfter(long ownerId, String cursor, Integer size) {
+        Pageable pageable = pagingPolicy.limit(size);
+        Cursor after = Cursor.decode(cursor);
 
-        if ((from != null && from < 0) || (size != null && size <= 0)) {
-            throw new IllegalArgumentException("Неверные параметры поиска");
-        }
+        List<Item> items = itemRepository
+                .findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(ownerId, after != null ? after.getId() : 0, pageable);
 
-        if (from == null) {
-            from = 0;
-        }
+        return toItemExtendedDtos(items);
+    }
 
-        if (size == null) {
-            size = Integer.MAX_VALUE;
+    @Override
+    public Collection<ItemDto> searchItemsAfter(String query, String cursor, Integer size) {
+        if (query.isEmpty() || query.isBlank()) {
+            return new ArrayList<>();
         }
 
-        return itemRepository
-                .findAllAvailableItemsByNameOrDescription(query, Pageable.ofSize(from + size))
+        Pageable pageable = pagingPolicy.limit(size);
+        Cursor after = Cursor.decode(cursor);
+
+        return itemSearch
+                .searchAfter(query, after != null ? after.getId() : 0, pageable)
                 .stream()
-                .skip(from)
                 .map(ItemMapper::toItemDto)
                 .collect(Collectors.toList());
     }
@@ -248,31 +267,54 @@ public class ItemServiceImpl implements ItemService {
     }
 
     private BookingShortDto getLastBooking(Item item) {
-        BookingShortDto lastBookingShortDto = null;
+        return bookingRepository
+                .findLastBookingByItemId(item.getId(), Pageable.ofSize(1))
+                .stream()
+                .findFirst()
+                .orElse(null);
+    }
 
-        List<Booking> lastBookings = bookingRepository
-                .findAllCurrentOrPastBookingsByItemIdOrderByStartAsc(item.getId());
+    private BookingShortDto getNextBooking(Item item) {
+        return bookingRepository
+                .findNextBookingByItemId(item.getId(), Pageable.ofSize(1))
+                .stream()
+                .findFirst()
+                .orElse(null);
+    }
 
-        if (!lastBookings.isEmpty()) {
-            Booking lastBooking = lastBookings.get(lastBookings.size() - 1);
-            lastBookingShortDto = BookingMapper.toBookingShortDto(lastBooking);
+    private Collection<ItemExtendedDto> toItemExtendedDtos(List<Item> items) {
+        if (items.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        return lastBookingShortDto;
-    }
+        List<Long> itemIds = items
+                .stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
 
-    private BookingShortDto getNextBooking(Item item) {
-        BookingShortDto nextBookingShortDto = null;
+        Map<Long, BookingShortDto> lastBookings = bookingRepository
+                .findLastBookingsByItemIdIn(itemIds)
+                .stream()
+                .collect(Collectors.toMap(booking -> booking.getItem().getId(), BookingMapper::toBookingShortDto));
 
-        List<Booking> nextBookings = bookingRepository
-                .findAllFutureBookingsByItemIdOrderByStartDesc(item.getId());
+        Map<Long, BookingShortDto> nextBookings = bookingRepository
+                .findNextBookingsByItemIdIn(itemIds)
+                .stream()
+                .collect(Collectors.toMap(booking -> booking.getItem().getId(), BookingMapper::toBookingShortDto));
 
-        if (!nextBookings.isEmpty()) {
-            Booking nextBooking = nextBookings.get(nextBookings.size() - 1);
-            nextBookingShortDto = BookingMapper.toBookingShortDto(nextBooking);
-        }
+        Map<Long, List<CommentDto>> comments = commentRepository
+                .findAllByItemIdInOrderByIdAsc(itemIds)
+                .stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(CommentMapper::toCommentDto, Collectors.toList())));
 
-        return nextBookingShortDto;
+        return items
+                .stream()
+                .map(item -> ItemMapper.toItemExtendedDto(item,
+                        lastBookings.get(item.getId()),
+                        nextBookings.get(item.getId()),
+                        comments.getOrDefault(item.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
     }
 
     private Collection<CommentDto> getComments(Item item) {
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Маркер продолжения для постраничной выборки по ключу (keyset pagination).
+ * Клиенту передаётся в виде непрозрачной строки, см. {@link #encode()}.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class Cursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Верхняя граница даты начала для первой страницы выборок, упорядоченных по убыванию даты.
+     */
+    public static final LocalDateTime MAX_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime start;
+
+    private final long id;
+
+    public static Cursor of(long id) {
+        return new Cursor(null, id);
+    }
+
+    public static Cursor of(LocalDateTime start, long id) {
+        return new Cursor(start, id);
+    }
+
+    /**
+     * Разбирает маркер, полученный от клиента. Пустой маркер означает первую страницу.
+     *
+     * @return маркер или {@code null} для первой страницы
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+
+            if (separatorIndex < 0) {
+                return of(Long.parseLong(raw));
+            }
+
+            return of(LocalDateTime.parse(raw.substring(separatorIndex + 1)),
+                    Long.parseLong(raw.substring(0, separatorIndex)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Неверный курсор: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = start != null
+                ? id + SEPARATOR + start
+                : String.valueOf(id);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPage {
+
+    /**
+     * Формирует ответ со страницей и, если страница заполнена целиком,
+     * маркером следующей страницы в заголовке {@value Cursor#NEXT_CURSOR_HEADER}.
+     * Без {@code size} размер страницы выбирает {@link PagingPolicy}, поэтому маркер
+     * добавляется к любой непустой странице.
+     */
+    public static <T> ResponseEntity<Collection<T>> toResponse(Collection<T> page,
+                                                               Integer size,
+                                                               Function<T, Cursor> cursorOf) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+
+        if (!page.isEmpty() && (size == null || page.size() == size)) {
+            T last = page.stream().skip(page.size() - 1).findFirst().get();
+            responseBuilder.header(Cursor.NEXT_CURSOR_HEADER, cursorOf.apply(last).encode());
+        }
+
+        return responseBuilder.body(page);
+    }
+
+}
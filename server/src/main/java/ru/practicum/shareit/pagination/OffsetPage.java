@@ -0,0 +1,42 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Collection;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class OffsetPage {
+
+    /**
+     * Формирует ответ со страницей выборки по смещению и, если страница заполнена целиком,
+     * относительной ссылкой на следующую в заголовке {@code Link} с {@code rel="next"}.
+     * Без {@code size} страница ограничена размером по умолчанию, и по ссылке клиент видит,
+     * что записи ещё есть.
+     *
+     * @param pageSize размер страницы, выбранный {@link PagingPolicy#pageSize(Integer)}
+     */
+    public static <T> ResponseEntity<Collection<T>> toResponse(Collection<T> page, Integer from, int pageSize) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+
+        if (page.size() == pageSize) {
+            UriComponents current = ServletUriComponentsBuilder.fromCurrentRequest().build();
+            String next = UriComponentsBuilder
+                    .fromPath(current.getPath())
+                    .query(current.getQuery())
+                    .replaceQueryParam("from", (from != null ? from : 0) + pageSize)
+                    .replaceQueryParam("size", pageSize)
+                    .build()
+                    .toUriString();
+            responseBuilder.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+
+        return responseBuilder.body(page);
+    }
+
+}
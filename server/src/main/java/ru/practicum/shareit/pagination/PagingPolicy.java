@@ -0,0 +1,73 @@
+package ru.practicum.shareit.pagination;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import javax.validation.ValidationException;
+
+/**
+ * Переводит параметры постраничной выборки в {@link Pageable}. Без {@code size} возвращается
+ * страница размера по умолчанию, размер больше {@link PagingProperties#getMaxSize()} отклоняется:
+ * полная выгрузка доступна только потоком через эндпоинты {@code /export}. О том, что записи
+ * не уместились в страницу, ответ сообщает ссылкой на следующую (см. {@link OffsetPage}, {@link CursorPage}).
+ */
+@Component
+@EnableConfigurationProperties(PagingProperties.class)
+public class PagingPolicy {
+
+    private final int defaultSize;
+
+    private final int maxSize;
+
+    public PagingPolicy(PagingProperties properties) {
+        this.defaultSize = properties.getDefaultSize();
+        this.maxSize = properties.getMaxSize();
+    }
+
+    /**
+     * Выборка по смещению: пропускает {@code from} записей и возвращает не больше {@code size}.
+     */
+    public Pageable offset(Integer from, Integer size) {
+        if (from != null && from < 0) {
+            throw new IllegalArgumentException("Неверные параметры поиска");
+        }
+
+        int pageSize = pageSize(size);
+
+        if (from == null || from % pageSize == 0) {
+            return PageRequest.of(from != null ? from / pageSize : 0, pageSize);
+        }
+
+        return new OffsetPageable(from, pageSize);
+    }
+
+    /**
+     * Выборка по ключу: страница всегда читается с начала, смещение задаёт курсор.
+     */
+    public Pageable limit(Integer size) {
+        return PageRequest.ofSize(pageSize(size));
+    }
+
+    /**
+     * Размер страницы для параметра {@code size}: размер по умолчанию, если параметра нет.
+     */
+    public int pageSize(Integer size) {
+        if (size == null) {
+            return defaultSize;
+        }
+
+        if (size <= 0) {
+            throw new IllegalArgumentException("Неверные параметры поиска");
+        }
+
+        if (size > maxSize) {
+            throw new ValidationException("Размер страницы не может превышать " + maxSize
+                    + ", для выгрузки всех записей используйте /export");
+        }
+
+        return size;
+    }
+
+}
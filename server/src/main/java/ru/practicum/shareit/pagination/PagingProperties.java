@@ -0,0 +1,25 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Ограничения размера страницы для постраничных выборок сервера.
+ */
+@ConfigurationProperties(prefix = "shareit.paging")
+@Getter
+@Setter
+public class PagingProperties {
+
+    /**
+     * Размер страницы, если клиент не передал параметр {@code size}.
+     */
+    private int defaultSize = 100;
+
+    /**
+     * Наибольший допустимый размер страницы. Выгрузить все записи можно через эндпоинты {@code /export}.
+     */
+    private int maxSize = 1000;
+
+}
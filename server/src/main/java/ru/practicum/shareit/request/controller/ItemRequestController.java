@@ -1,7 +1,12 @@
 package ru.practicum.shareit.request.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPage;
+import ru.practicum.shareit.pagination.PagingPolicy;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestRequestBody;
 import ru.practicum.shareit.request.service.ItemRequestService;
@@ -13,10 +18,12 @@ import java.util.Collection;
 public class ItemRequestController {
 
     private final ItemRequestService itemRequestService;
+    private final PagingPolicy pagingPolicy;
 
     @Autowired
-    public ItemRequestController(ItemRequestService itemRequestService) {
+    public ItemRequestController(ItemRequestService itemRequestService, PagingPolicy pagingPolicy) {
         this.itemRequestService = itemRequestService;
+        this.pagingPolicy = pagingPolicy;
     }
 
     @PostMapping
@@ -37,10 +44,21 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    Collection<ItemRequestDto> getItemRequests(@RequestHeader(value = "X-Sharer-User-Id") long userId,
-                                               @RequestParam(required = false) Integer from,
-                                               @RequestParam(required = false) Integer size) {
-        return itemRequestService.getItemRequests(userId, from, size);
+    ResponseEntity<Collection<ItemRequestDto>> getItemRequests(@RequestHeader(value = "X-Sharer-User-Id") long userId,
+                                                               @RequestParam(required = false) Integer from,
+                                                               @RequestParam(required = false) Integer size) {
+        return OffsetPage.toResponse(itemRequestService.getItemRequests(userId, from, size),
+                from,
+                pagingPolicy.pageSize(size));
+    }
+
+    @GetMapping(value = "/all", params = "cursor")
+    ResponseEntity<Collection<ItemRequestDto>> getItemRequestsAfter(@RequestHeader(value = "X-Sharer-User-Id") long userId,
+                                                                    @RequestParam String cursor,
+                                                                    @RequestParam(required = false) Integer size) {
+        return CursorPage.toResponse(itemRequestService.getItemRequestsAfter(userId, cursor, size),
+                size,
+                itemRequest -> Cursor.of(itemRequest.getId()));
     }
 
 }
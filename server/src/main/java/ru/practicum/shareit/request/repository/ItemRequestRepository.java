@@ -3,14 +3,19 @@ package ru.practicum.shareit.request.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
 
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
     List<ItemRequest> findAllByRequesterIdOrderByIdAsc(Long requesterId);
 
     Page<ItemRequest> findAllByRequesterIdNotOrderByIdAsc(Long requesterId, Pageable pageable);
 
+    List<ItemRequest> findAllByRequesterIdNotAndIdGreaterThanOrderByIdAsc(Long requesterId, Long id, Pageable pageable);
+
 }
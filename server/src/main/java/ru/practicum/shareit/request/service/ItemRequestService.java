@@ -15,4 +15,6 @@ public interface ItemRequestService {
 
     Collection<ItemRequestDto> getItemRequests(long userId, Integer from, Integer size);
 
+    Collection<ItemRequestDto> getItemRequestsAfter(long userId, String cursor, Integer size);
+
 }
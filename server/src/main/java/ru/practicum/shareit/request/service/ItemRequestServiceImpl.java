@@ -3,6 +3,8 @@ package ru.practicum.shareit.request.service;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.PagingPolicy;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestRequestBody;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
@@ -10,6 +12,7 @@ import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import javax.validation.*;
 import java.time.LocalDateTime;
@@ -25,11 +28,18 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     private final ItemRequestRepository itemRequestRepository;
     private final UserRepository userRepository;
+    private final UserExistenceChecker userExistenceChecker;
+    private final PagingPolicy pagingPolicy;
     private final Validator validator;
 
-    public ItemRequestServiceImpl(ItemRequestRepository itemRequestRepository, UserRepository userRepository) {
+    public ItemRequestServiceImpl(ItemRequestRepository itemRequestRepository,
+                                  UserRepository userRepository,
+                                  UserExistenceChecker userExistenceChecker,
+                                  PagingPolicy pagingPolicy) {
         this.itemRequestRepository = itemRequestRepository;
         this.userRepository = userRepository;
+        this.userExistenceChecker = userExistenceChecker;
+        this.pagingPolicy = pagingPolicy;
 
         ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
         this.validator = factory.getValidator();
@@ -61,11 +71,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public ItemRequestDto getItemRequest(long userId, long requestId) {
-        Optional<User> user = userRepository.findById(userId);
-
-        if (user.isEmpty()) {
-            throw new NoSuchElementException("Пользователя с идентификатором " + userId + " не существует");
-        }
+        userExistenceChecker.requireExists(userId);
 
         Optional<ItemRequest> itemRequest = itemRequestRepository.findById(requestId);
 
@@ -78,11 +84,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public Collection<ItemRequestDto> getItemRequestsByRequesterId(long requesterId) {
-        Optional<User> requester = userRepository.findById(requesterId);
-
-        if (requester.isEmpty()) {
-            throw new NoSuchElementException("Пользователя с идентификатором " + requesterId + " не существует");
-        }
+        userExistenceChecker.requireExists(requesterId);
 
         return itemRequestRepository
                 .findAllByRequesterIdOrderByIdAsc(requesterId)
@@ -93,22 +95,21 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public Collection<ItemRequestDto> getItemRequests(long userId, Integer from, Integer size) {
-        if ((from != null && from < 0) || (size != null && size <= 0)) {
-            throw new IllegalArgumentException("Неверные параметры поиска");
-        }
-
-        if (from == null) {
-            from = 0;
-        }
+        return itemRequestRepository
+                .findAllByRequesterIdNotOrderByIdAsc(userId, pagingPolicy.offset(from, size))
+                .stream()
+                .map(ItemRequestMapper::toItemRequestDto)
+                .collect(Collectors.toList());
+    }
 
-        if (size == null) {
-            size = Integer.MAX_VALUE;
-        }
+    @Override
+    public Collection<ItemRequestDto> getItemRequestsAfter(long userId, String cursor, Integer size) {
+        Pageable pageable = pagingPolicy.limit(size);
+        Cursor after = Cursor.decode(cursor);
 
         return itemRequestRepository
-                .findAllByRequesterIdNotOrderByIdAsc(userId, Pageable.ofSize(from + size))
+                .findAllByRequesterIdNotAndIdGreaterThanOrderByIdAsc(userId, after != null ? after.getId() : 0, pageable)
                 .stream()
-                .skip(from)
                 .map(ItemRequestMapper::toItemRequestDto)
                 .collect(Collectors.toList());
     }
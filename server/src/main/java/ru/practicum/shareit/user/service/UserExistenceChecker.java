@@ -0,0 +1,62 @@
+package ru.practicum.shareit.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+
+/**
+ * Проверка существования пользователя без загрузки сущности. Подтверждённые идентификаторы хранятся
+ * в ограниченном кэше и обновляются сервисом пользователей при добавлении и удалении, поэтому повторная
+ * проверка не обращается к базе данных. Отсутствие пользователя не кэшируется. Срок хранения ограничивает
+ * устаревание, если пользователя удалил другой экземпляр сервера.
+ */
+@Component
+public class UserExistenceChecker {
+
+    private static final long MAX_SIZE = 100_000;
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final UserRepository userRepository;
+
+    private final Cache<Long, Boolean> confirmedIds = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    public UserExistenceChecker(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public boolean exists(long userId) {
+        if (confirmedIds.getIfPresent(userId) != null) {
+            return true;
+        }
+
+        if (!userRepository.existsById(userId)) {
+            return false;
+        }
+
+        confirmedIds.put(userId, Boolean.TRUE);
+        return true;
+    }
+
+    public void requireExists(long userId) {
+        if (!exists(userId)) {
+            throw new NoSuchElementException("Пользователя с идентификатором " + userId + " не существует");
+        }
+    }
+
+    void onUserAdded(long userId) {
+        confirmedIds.put(userId, Boolean.TRUE);
+    }
+
+    void onUserRemoved(long userId) {
+        confirmedIds.invalidate(userId);
+    }
+
+}
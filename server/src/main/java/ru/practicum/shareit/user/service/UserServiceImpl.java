@@ -17,10 +17,12 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserExistenceChecker userExistenceChecker;
     private final Validator validator;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, UserExistenceChecker userExistenceChecker) {
         this.userRepository = userRepository;
+        this.userExistenceChecker = userExistenceChecker;
 
         ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
         this.validator = factory.getValidator();
@@ -37,6 +39,7 @@ public class UserServiceImpl implements UserService {
         }
 
         user = userRepository.save(user);
+        userExistenceChecker.onUserAdded(user.getId());
         return UserMapper.toUserDto(user);
 
     }
@@ -81,6 +84,7 @@ public class UserServiceImpl implements UserService {
     public void removeUser(long id) {
         if (userRepository.existsById(id)) {
             userRepository.deleteById(id);
+            userExistenceChecker.onUserRemoved(id);
         } else {
             throw new NoSuchElementException("Пользователя с идентификатором " + id + " не существует");
         }
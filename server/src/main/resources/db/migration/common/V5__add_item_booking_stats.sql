@@ -0,0 +1,21 @@
+CREATE TABLE IF NOT EXISTS item_booking_stats (
+  item_id BIGINT NOT NULL,
+  waiting BIGINT NOT NULL DEFAULT 0,
+  approved BIGINT NOT NULL DEFAULT 0,
+  rejected BIGINT NOT NULL DEFAULT 0,
+  cancelled BIGINT NOT NULL DEFAULT 0,
+  CONSTRAINT pk_item_booking_stats PRIMARY KEY (item_id),
+  CONSTRAINT fk_item_booking_stats_item FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE
+);
+
+INSERT INTO item_booking_stats (item_id, waiting, approved, rejected, cancelled)
+SELECT i.id,
+       COUNT(CASE WHEN b.status = 'WAITING' THEN 1 END),
+       COUNT(CASE WHEN b.status = 'APPROVED' THEN 1 END),
+       COUNT(CASE WHEN b.status = 'REJECTED' THEN 1 END),
+       COUNT(CASE WHEN b.status = 'CANCELLED' THEN 1 END)
+FROM items i
+LEFT JOIN bookings b ON b.item_id = i.id
+GROUP BY i.id;
+
+CREATE INDEX IF NOT EXISTS ix_bookings_item_end ON bookings (item_id, end_date);
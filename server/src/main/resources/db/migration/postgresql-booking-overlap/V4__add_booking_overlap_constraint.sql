@@ -0,0 +1,31 @@
+DO $$
+DECLARE
+  conflicts TEXT;
+BEGIN
+  SELECT string_agg(format('item %s: bookings %s and %s', item_id, earlier_id, later_id), E'\n' ORDER BY item_id, earlier_id, later_id)
+  INTO conflicts
+  FROM (
+    SELECT b.item_id, o.id AS earlier_id, b.id AS later_id
+    FROM bookings b
+    JOIN bookings o
+      ON o.item_id = b.item_id
+      AND o.id < b.id
+      AND o.start_date < b.end_date
+      AND b.start_date < o.end_date
+    WHERE b.status = 'APPROVED'
+      AND o.status = 'APPROVED'
+    ORDER BY b.item_id, o.id, b.id
+    LIMIT 100) overlapping;
+
+  IF conflicts IS NOT NULL THEN
+    RAISE EXCEPTION 'Approved bookings overlap, ex_booking_approved_overlap cannot be added (first 100 pairs listed)'
+      USING DETAIL = conflicts,
+            HINT = 'Reject or reschedule the listed bookings, or set shareit.booking.overlap-constraint=false until they are resolved';
+  END IF;
+END $$;
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings ADD CONSTRAINT ex_booking_approved_overlap
+  EXCLUDE USING GIST (item_id WITH =, tsrange(start_date, end_date, '[)') WITH &&)
+  WHERE (status = 'APPROVED');
@@ -0,0 +1,163 @@
+package ru.practicum.shareit.booking.availability;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.exception.InvalidDatesException;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+@SpringBootTest
+public class AvailabilityServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Mock
+    private BookingRepository bookingRepository;
+    @Mock
+    private ItemRepository itemRepository;
+
+    private AvailabilityService availabilityService;
+
+    private final User owner = new User(1L, "Owner Name", "owner.name@mail.com");
+
+    private final User booker = new User(2L, "Booker Name", "booker.name@mail.com");
+
+    private final Item item = new Item(1L, "Item Name", "Item Description", true, owner, null);
+
+    @BeforeEach
+    public void setUp() {
+        openMocks(this);
+        availabilityService = new AvailabilityServiceImpl(bookingRepository, itemRepository);
+
+        when(itemRepository.existsById(1L))
+                .thenReturn(true);
+    }
+
+    @Test
+    public void getAvailability_withFreePeriod_returnsAvailable() {
+        // Arrange
+        when(bookingRepository.findAllByItemIdAndStatusInAndEndAfterOrderByStartAsc(anyLong(), any(), any()))
+                .thenReturn(List.of(booking(1L, 10, 12, Status.APPROVED)));
+
+        // Act
+        var availability = availabilityService.getAvailability(1L, BASE.plusHours(12), BASE.plusHours(14));
+
+        // Assert
+        assertTrue(availability.isAvailable());
+        assertEquals(BASE.plusHours(12), availability.getNextFreeStart());
+        assertEquals(BASE.plusHours(14), availability.getNextFreeEnd());
+    }
+
+    @Test
+    public void getAvailability_withOverlappingBookings_returnsNextFreeSlot() {
+        // Arrange
+        when(bookingRepository.findAllByItemIdAndStatusInAndEndAfterOrderByStartAsc(anyLong(), any(), any()))
+                .thenReturn(List.of(
+                        booking(1L, 10, 20, Status.APPROVED),
+                        booking(2L, 12, 14, Status.WAITING),
+                        booking(3L, 21, 30, Status.WAITING)));
+
+        // Act
+        var availability = availabilityService.getAvailability(1L, BASE.plusHours(11), BASE.plusHours(13));
+
+        // Assert
+        assertFalse(availability.isAvailable());
+        assertEquals(BASE.plusHours(30), availability.getNextFreeStart());
+        assertEquals(BASE.plusHours(32), availability.getNextFreeEnd());
+    }
+
+    @Test
+    public void getAvailability_withGapBetweenBookings_returnsGapStart() {
+        // Arrange
+        when(bookingRepository.findAllByItemIdAndStatusInAndEndAfterOrderByStartAsc(anyLong(), any(), any()))
+                .thenReturn(List.of(
+                        booking(1L, 10, 20, Status.APPROVED),
+                        booking(2L, 22, 30, Status.APPROVED)));
+
+        // Act
+        var availability = availabilityService.getAvailability(1L, BASE.plusHours(15), BASE.plusHours(17));
+
+        // Assert
+        assertFalse(availability.isAvailable());
+        assertEquals(BASE.plusHours(20), availability.getNextFreeStart());
+    }
+
+    @Test
+    public void onBookingSaved_withLoadedTimeline_updatesTimelineWithoutReload() {
+        // Arrange
+        when(bookingRepository.findAllByItemIdAndStatusInAndEndAfterOrderByStartAsc(anyLong(), any(), any()))
+                .thenReturn(List.of());
+        availabilityService.getAvailability(1L, BASE.plusHours(10), BASE.plusHours(12));
+
+        // Act
+        availabilityService.onBookingSaved(booking(1L, 10, 12, Status.WAITING));
+        var booked = availabilityService.getAvailability(1L, BASE.plusHours(11), BASE.plusHours(12));
+        availabilityService.onBookingSaved(booking(1L, 10, 12, Status.REJECTED));
+        var released = availabilityService.getAvailability(1L, BASE.plusHours(11), BASE.plusHours(12));
+
+        // Assert
+        assertFalse(booked.isAvailable());
+        assertTrue(released.isAvailable());
+        verify(bookingRepository, times(1)).findAllByItemIdAndStatusInAndEndAfterOrderByStartAsc(anyLong(), any(), any());
+    }
+
+    @Test
+    public void onBookingSaved_insideTransaction_updatesTimelineOnlyAfterCommit() {
+        // Arrange
+        when(bookingRepository.findAllByItemIdAndStatusInAndEndAfterOrderByStartAsc(anyLong(), any(), any()))
+                .thenReturn(List.of());
+        availabilityService.getAvailability(1L, BASE.plusHours(10), BASE.plusHours(12));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            availabilityService.onBookingSaved(booking(1L, 10, 12, Status.WAITING));
+            var beforeCommit = availabilityService.getAvailability(1L, BASE.plusHours(11), BASE.plusHours(12));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            var afterCommit = availabilityService.getAvailability(1L, BASE.plusHours(11), BASE.plusHours(12));
+
+            // Assert
+            assertTrue(beforeCommit.isAvailable());
+            assertFalse(afterCommit.isAvailable());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void getAvailability_withInvalidPeriod_throwsInvalidDatesException() {
+        // Act & Assert
+        assertThrows(InvalidDatesException.class,
+                () -> availabilityService.getAvailability(1L, BASE.plusHours(2), BASE.plusHours(1)));
+    }
+
+    @Test
+    public void getAvailability_withInvalidItemId_throwsNoSuchElementException() {
+        // Act & Assert
+        assertThrows(NoSuchElementException.class,
+                () -> availabilityService.getAvailability(2L, BASE.plusHours(1), BASE.plusHours(2)));
+    }
+
+    private Booking booking(long id, int startHour, int endHour, Status status) {
+        return new Booking(id, BASE.plusHours(startHour), BASE.plusHours(endHour), item, booker, status);
+    }
+
+}
@@ -5,28 +5,38 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequestBody;
+import ru.practicum.shareit.booking.dto.BookingStatsDto;
+import ru.practicum.shareit.booking.dto.OwnerBookingStatsDto;
+import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.stats.BookingStatsService;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.pagination.PagingPolicy;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = BookingController.class)
+@Import(PagingPolicy.class)
 public class BookingsControllerTest {
 
     private final BookingRequestBody bookingRequestBody = new BookingRequestBody(1L,
@@ -50,6 +60,8 @@ public class BookingsControllerTest {
     ObjectMapper mapper;
     @MockBean
     BookingService bookingService;
+    @MockBean
+    BookingStatsService bookingStatsService;
     @Autowired
     MockMvc mvc;
 
@@ -76,6 +88,28 @@ public class BookingsControllerTest {
                 .andExpect(jsonPath("$.status", is(bookingDto.getStatus().toString())));
     }
 
+    @Test
+    public void addBookings_withValidData_returnsOk() throws Exception {
+        // Arrange
+        var headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", "1");
+
+        when(bookingService.addBookings(anyLong(), any()))
+                .thenReturn(List.of(new BookingBatchResultDto(bookingDto, null),
+                        new BookingBatchResultDto(null, "Вещи с идентификатором 2 не существует")));
+
+        // Act & Assert
+        mvc.perform(post("/bookings/batch")
+                        .headers(headers)
+                        .content(mapper.writeValueAsString(List.of(bookingRequestBody, bookingRequestBody)))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].booking.id", is(bookingDto.getId()), Long.class))
+                .andExpect(jsonPath("$[1].error", is("Вещи с идентификатором 2 не существует")));
+    }
+
     @Test
     public void getBooking_withValidData_returnsOk() throws Exception {
         // Arrange
@@ -155,4 +189,45 @@ public class BookingsControllerTest {
                 .andExpect(jsonPath("$[0].status", is(bookingDto.getStatus().toString())));
     }
 
+    @Test
+    public void getBookingsAfter_withFullPage_returnsNextCursorHeader() throws Exception {
+        // Arrange
+        var headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", "1");
+
+        when(bookingService.getBookingsAfter(anyLong(), anyString(), anyString(), any()))
+                .thenReturn(List.of(bookingDto));
+
+        // Act & Assert
+        mvc.perform(get("/bookings")
+                        .headers(headers)
+                        .param("cursor", "")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andExpect(jsonPath("$[0].id", is(bookingDto.getId()), Long.class));
+    }
+
+    @Test
+    public void getBookingStatsByItemOwner_withValidData_returnsOk() throws Exception {
+        // Arrange
+        var headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", "1");
+        var itemStats = new BookingStatsDto(1L,
+                Map.of(Status.WAITING, 1L, Status.APPROVED, 2L),
+                Map.of(State.CURRENT, 1L, State.PAST, 1L, State.FUTURE, 1L));
+        var total = new BookingStatsDto(null, itemStats.getByStatus(), itemStats.getByState());
+
+        when(bookingStatsService.getStatsByItemOwner(anyLong()))
+                .thenReturn(new OwnerBookingStatsDto(total, List.of(itemStats)));
+
+        // Act & Assert
+        mvc.perform(get("/bookings/owner/stats")
+                        .headers(headers))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total.byStatus.APPROVED", is(2L), Long.class))
+                .andExpect(jsonPath("$.total.byState.PAST", is(1L), Long.class))
+                .andExpect(jsonPath("$.items[0].itemId", is(1L), Long.class));
+    }
+
 }
@@ -9,24 +9,29 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.jdbc.Sql;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.Cursor;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static java.lang.Thread.sleep;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 @AutoConfigureTestDatabase
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
-@Sql(scripts = "classpath:schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:db/migration/common/V1__create_schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @DataJpaTest
 public class BookingRepositoryTest {
 
@@ -35,7 +40,7 @@ public class BookingRepositoryTest {
     private final UserRepository userRepository;
 
     @Test
-    public void findAllByBookerIdOrderByStartDescTest() {
+    public void findAllByFilter_withBookerAndAllState_returnsBookingCollection() {
         // Arrange
         var owner = new User(1L,
                 "Owner Name",
@@ -69,7 +74,8 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking);
 
         // Act
-        var bookings = bookingRepository.findAllByBookerIdOrderByStartDesc(booker.getId(), Pageable.unpaged()).getContent();
+        var bookings = bookingRepository.findAllByFilter(BookingFilter.ofBooker(booker.getId(), State.ALL),
+                Pageable.unpaged());
 
         // Assert
         assertEquals(1, bookings.size());
@@ -83,7 +89,7 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void findAllByBookerIdAndStatusOrderByIdAsc_withValidSearchParams_returnsBookingCollection() {
+    public void findAllByFilter_withBookerAndWaitingState_returnsBookingCollection() {
         // Arrange
         var owner = new User(1L,
                 "Owner Name",
@@ -117,9 +123,8 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking);
 
         // Act
-        var bookings = bookingRepository.findAllByBookerIdAndStatusOrderByIdAsc(booker.getId(),
-                Status.WAITING,
-                Pageable.unpaged()).getContent();
+        var bookings = bookingRepository.findAllByFilter(BookingFilter.ofBooker(booker.getId(), State.WAITING),
+                Pageable.unpaged());
 
         // Assert
         assertEquals(1, bookings.size());
@@ -133,7 +138,7 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void findAllFutureBookingsByBookerIdOrderByStartDesc_withValidSearchParams_returnsBookingCollection() {
+    public void findAllByFilter_withBookerAndFutureState_returnsBookingCollection() {
         // Arrange
         var owner = new User(1L,
                 "Owner Name",
@@ -167,8 +172,8 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking);
 
         // Act
-        var bookings = bookingRepository.findAllFutureBookingsByBookerIdOrderByStartDesc(booker.getId(),
-                Pageable.unpaged()).getContent();
+        var bookings = bookingRepository.findAllByFilter(BookingFilter.ofBooker(booker.getId(), State.FUTURE),
+                Pageable.unpaged());
 
         // Assert
         assertEquals(1, bookings.size());
@@ -182,7 +187,7 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void findAllPastBookingsByBookerIdOrderByStartDesc_withValidSearchParams_returnsBookingCollection() throws Exception {
+    public void findAllByFilter_withBookerAndPastState_returnsBookingCollection() throws Exception {
         // Arrange
         var owner = new User(1L,
                 "Owner Name",
@@ -213,13 +218,13 @@ public class BookingRepositoryTest {
         userRepository.save(owner);
         userRepository.save(booker);
         itemRepository.save(item);
-        bookingRepository.save(booking);
+        bookingRepository.saveAndFlush(booking);
 
         sleep(3000);
 
         // Act
-        var bookings = bookingRepository.findAllPastBookingsByBookerIdOrderByStartDesc(booker.getId(),
-                Pageable.unpaged()).getContent();
+        var bookings = bookingRepository.findAllByFilter(BookingFilter.ofBooker(booker.getId(), State.PAST),
+                Pageable.unpaged());
 
         // Assert
         assertEquals(1, bookings.size());
@@ -233,7 +238,7 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void findAllCurrentBookingsByBookerIdOrderByIdAsc_withValidSearchParams_returnsBookingCollection()
+    public void findAllByFilter_withBookerAndCurrentState_returnsBookingCollection()
             throws Exception {
         // Arrange
         var owner = new User(1L,
@@ -265,13 +270,13 @@ public class BookingRepositoryTest {
         userRepository.save(owner);
         userRepository.save(booker);
         itemRepository.save(item);
-        bookingRepository.save(booking);
+        bookingRepository.saveAndFlush(booking);
 
         sleep(2000);
 
         // Act
-        var bookings = bookingRepository.findAllCurrentBookingsByBookerIdOrderByIdAsc(booker.getId(),
-                Pageable.unpaged()).getContent();
+        var bookings = bookingRepository.findAllByFilter(BookingFilter.ofBooker(booker.getId(), State.CURRENT),
+                Pageable.unpaged());
 
         // Assert
         assertEquals(1, bookings.size());
@@ -285,7 +290,7 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void findAllByItemOwnerIdOrderByStartDesc_withValidSearchParams_returnsBookingCollection() {
+    public void findAllByFilter_withItemOwnerAndAllState_returnsBookingCollection() {
         // Arrange
         var owner = new User(1L,
                 "Owner Name",
@@ -319,7 +324,8 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking);
 
         // Act
-        var bookings = bookingRepository.findAllByItemOwnerIdOrderByStartDesc(owner.getId(), Pageable.unpaged()).getContent();
+        var bookings = bookingRepository.findAllByFilter(BookingFilter.ofItemOwner(owner.getId(), State.ALL),
+                Pageable.unpaged());
 
         // Assert
         assertEquals(1, bookings.size());
@@ -333,7 +339,7 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void findAllByItemOwnerIdAndStatusOrderByIdAsc_withValidSearchParams_returnsBookingCollection() {
+    public void findAllByFilter_withItemOwnerAndWaitingState_returnsBookingCollection() {
         // Arrange
         var owner = new User(1L,
                 "Owner Name",
@@ -367,9 +373,8 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking);
 
         // Act
-        var bookings = bookingRepository.findAllByItemOwnerIdAndStatusOrderByIdAsc(owner.getId(),
-                Status.WAITING,
-                Pageable.unpaged()).getContent();
+        var bookings = bookingRepository.findAllByFilter(BookingFilter.ofItemOwner(owner.getId(), State.WAITING),
+                Pageable.unpaged());
 
         // Assert
         assertEquals(1, bookings.size());
@@ -383,7 +388,7 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void findAllFutureBookingsByItemOwnerIdOrderByStartDesc_withValidSearchParams_returnsBookingCollection() {
+    public void findAllByFilter_withItemOwnerAndFutureState_returnsBookingCollection() {
         // Arrange
         var owner = new User(1L,
                 "Owner Name",
@@ -417,8 +422,8 @@ public class BookingRepositoryTest {
         bookingRepository.save(booking);
 
         // Act
-        var bookings = bookingRepository.findAllFutureBookingsByItemOwnerIdOrderByStartDesc(owner.getId(),
-                Pageable.unpaged()).getContent();
+        var bookings = bookingRepository.findAllByFilter(BookingFilter.ofItemOwner(owner.getId(), State.FUTURE),
+                Pageable.unpaged());
 
         // Assert
         assertEquals(1, bookings.size());
@@ -432,7 +437,7 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void findAllPastBookingsByItemOwnerIdOrderByStartDesc_withValidSearchParams_returnsBookingCollection()
+    public void findAllByFilter_withItemOwnerAndPastState_returnsBookingCollection()
             throws Exception {
         // Arrange
         var owner = new User(1L,
@@ -464,13 +469,13 @@ public class BookingRepositoryTest {
         userRepository.save(owner);
         userRepository.save(booker);
         itemRepository.save(item);
-        bookingRepository.save(booking);
+        bookingRepository.saveAndFlush(booking);
 
         sleep(3000);
 
         // Act
-        var bookings = bookingRepository.findAllPastBookingsByItemOwnerIdOrderByStartDesc(owner.getId(),
-                Pageable.unpaged()).getContent();
+        var bookings = bookingRepository.findAllByFilter(BookingFilter.ofItemOwner(owner.getId(), State.PAST),
+                Pageable.unpaged());
 
         // Assert
         assertEquals(1, bookings.size());
@@ -484,7 +489,7 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void findAllCurrentBookingsByItemOwnerIdOrderByIdAsc_withValidSearchParams_returnsBookingCollection()
+    public void findAllByFilter_withItemOwnerAndCurrentState_returnsBookingCollection()
             throws Exception {
         // Arrange
         var owner = new User(1L,
@@ -516,13 +521,13 @@ public class BookingRepositoryTest {
         userRepository.save(owner);
         userRepository.save(booker);
         itemRepository.save(item);
-        bookingRepository.save(booking);
+        bookingRepository.saveAndFlush(booking);
 
         sleep(2000);
 
         // Act
-        var bookings = bookingRepository.findAllCurrentBookingsByItemOwnerIdOrderByIdAsc(owner.getId(),
-                Pageable.unpaged()).getContent();
+        var bookings = bookingRepository.findAllByFilter(BookingFilter.ofItemOwner(owner.getId(), State.CURRENT),
+                Pageable.unpaged());
 
         // Assert
         assertEquals(1, bookings.size());
@@ -536,7 +541,35 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void findAllCurrentOrPastBookingsByItemIdOrderByStartAsc_withValidSearchParams_returnsBookingCollection()
+    public void findAllByFilter_withItemOwnerAndAllStateAndCursor_seeksPastCursor() {
+        // Arrange
+        var owner = userRepository.save(new User(1L, "Owner Name", "owner.name@mail.com"));
+        var booker = userRepository.save(new User(2L, "Booker Name", "booker.name@mail.com"));
+        var item = itemRepository.save(new Item(1L, "Item Name", "Item Description", true, owner, null));
+        var start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        var earliestBooking = bookingRepository.save(new Booking(null, start, start.plusHours(1), item, booker, Status.WAITING));
+        var sameStartBooking = bookingRepository.save(new Booking(null, start.plusDays(1), start.plusDays(1).plusHours(1),
+                item, booker, Status.WAITING));
+        var latestBooking = bookingRepository.save(new Booking(null, start.plusDays(1), start.plusDays(1).plusHours(2),
+                item, booker, Status.WAITING));
+
+        // Act
+        var firstPage = bookingRepository.findAllByFilter(BookingFilter.ofItemOwner(owner.getId(), State.ALL),
+                Pageable.ofSize(1));
+        var secondPage = bookingRepository.findAllByFilter(BookingFilter.ofItemOwner(owner.getId(), State.ALL)
+                        .withAfter(Cursor.of(latestBooking.getStart(), latestBooking.getId())),
+                Pageable.ofSize(10));
+
+        // Assert
+        assertEquals(1, firstPage.size());
+        assertEquals(latestBooking.getId(), firstPage.get(0).getId());
+        assertEquals(2, secondPage.size());
+        assertEquals(sameStartBooking.getId(), secondPage.get(0).getId());
+        assertEquals(earliestBooking.getId(), secondPage.get(1).getId());
+    }
+
+    @Test
+    public void findLastBookingByItemId_withValidSearchParams_returnsLatestStartedBooking()
             throws Exception {
         // Arrange
         var owner = new User(1L,
@@ -552,42 +585,125 @@ public class BookingRepositoryTest {
                 true,
                 owner,
                 null);
-        var booking = new Booking(1L,
+
+        owner = userRepository.save(owner);
+        booker = userRepository.save(booker);
+        item = itemRepository.save(item);
+        bookingRepository.saveAndFlush(new Booking(null,
                 LocalDateTime.now().plusSeconds(1),
+                LocalDateTime.now().plusSeconds(2),
+                item,
+                booker,
+                Status.APPROVED));
+        var latestBooking = bookingRepository.saveAndFlush(new Booking(null,
+                LocalDateTime.now().plusSeconds(3),
                 LocalDateTime.now().plusDays(2),
-                new Item(
-                        1L,
-                        "Item Name",
-                        "Item Description",
-                        true,
-                        new User(1L, "Owner Name", "owner.name@mail.com"),
-                        null),
-                new User(2L, "Booker Name", "booker.name@mail.com"),
+                item,
+                booker,
+                Status.APPROVED));
+
+        sleep(4000);
+
+        // Act
+        var bookings = bookingRepository.findLastBookingByItemId(item.getId(), Pageable.ofSize(1));
+
+        // Assert
+        assertEquals(1, bookings.size());
+        assertEquals(latestBooking.getId(), bookings.get(0).getId());
+        assertEquals(booker.getId(), bookings.get(0).getBookerId());
+    }
+
+    @Test
+    public void findNextBookingByItemId_withValidSearchParams_returnsNearestFutureBooking() {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+        var booker = new User(2L,
+                "Booker Name",
+                "booker.name@mail.com");
+        var item = new Item(
+                1L,
+                "Item Name",
+                "Item Description",
+                true,
+                owner,
+                null);
+
+        owner = userRepository.save(owner);
+        booker = userRepository.save(booker);
+        item = itemRepository.save(item);
+        bookingRepository.save(new Booking(null,
+                LocalDateTime.now().plusDays(5),
+                LocalDateTime.now().plusDays(6),
+                item,
+                booker,
+                Status.WAITING));
+        var nearestBooking = bookingRepository.save(new Booking(null,
+                LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2),
+                item,
+                booker,
+                Status.WAITING));
+
+        // Act
+        var bookings = bookingRepository.findNextBookingByItemId(item.getId(), Pageable.ofSize(1));
+
+        // Assert
+        assertEquals(1, bookings.size());
+        assertEquals(nearestBooking.getId(), bookings.get(0).getId());
+        assertEquals(booker.getId(), bookings.get(0).getBookerId());
+    }
+
+    @Test
+    public void findLastBookingsByItemIdIn_withValidSearchParams_returnsLatestStartedBookingPerItem()
+            throws Exception {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+        var booker = new User(2L,
+                "Booker Name",
+                "booker.name@mail.com");
+        var item = new Item(
+                1L,
+                "Item Name",
+                "Item Description",
+                true,
+                owner,
+                null);
+        var earlierBooking = new Booking(1L,
+                LocalDateTime.now().plusSeconds(1),
+                LocalDateTime.now().plusDays(2),
+                item,
+                booker,
+                Status.APPROVED);
+        var laterBooking = new Booking(2L,
+                LocalDateTime.now().plusSeconds(2),
+                LocalDateTime.now().plusDays(2),
+                item,
+                booker,
                 Status.APPROVED);
 
         userRepository.save(owner);
         userRepository.save(booker);
         itemRepository.save(item);
-        bookingRepository.save(booking);
+        bookingRepository.saveAndFlush(earlierBooking);
+        laterBooking = bookingRepository.saveAndFlush(laterBooking);
 
-        sleep(2000);
+        sleep(3000);
 
         // Act
-        var bookings = bookingRepository.findAllCurrentOrPastBookingsByItemIdOrderByStartAsc(item.getId());
+        var bookings = bookingRepository.findLastBookingsByItemIdIn(List.of(item.getId()));
 
         // Assert
         assertEquals(1, bookings.size());
-        assertTrue(bookings.stream().findFirst().isPresent());
-
-        var firstBooking = bookings.stream().findFirst().get();
-        assertThat(firstBooking.getId(), notNullValue());
-        assertEquals(booking.getBooker().getId(), firstBooking.getBooker().getId());
-        assertEquals(booking.getItem().getId(), firstBooking.getItem().getId());
-        assertEquals(booking.getStatus(), firstBooking.getStatus());
+        assertEquals(laterBooking.getId(), bookings.get(0).getId());
+        assertEquals(item.getId(), bookings.get(0).getItem().getId());
     }
 
     @Test
-    public void findAllFutureBookingsByItemIdOrderByStartDesc_withValidSearchParams_returnsBookingCollection() {
+    public void findNextBookingsByItemIdIn_withValidSearchParams_returnsNearestFutureBookingPerItem() {
         // Arrange
         var owner = new User(1L,
                 "Owner Name",
@@ -602,36 +718,32 @@ public class BookingRepositoryTest {
                 true,
                 owner,
                 null);
-        var booking = new Booking(1L,
+        var nearestBooking = new Booking(1L,
                 LocalDateTime.now().plusDays(1),
                 LocalDateTime.now().plusDays(2),
-                new Item(
-                        1L,
-                        "Item Name",
-                        "Item Description",
-                        true,
-                        new User(1L, "Owner Name", "owner.name@mail.com"),
-                        null),
-                new User(2L, "Booker Name", "booker.name@mail.com"),
+                item,
+                booker,
                 Status.WAITING);
+        var furtherBooking = new Booking(2L,
+                LocalDateTime.now().plusDays(3),
+                LocalDateTime.now().plusDays(4),
+                item,
+                booker,
+                Status.APPROVED);
 
         userRepository.save(owner);
         userRepository.save(booker);
         itemRepository.save(item);
-        bookingRepository.save(booking);
+        nearestBooking = bookingRepository.save(nearestBooking);
+        bookingRepository.save(furtherBooking);
 
         // Act
-        var bookings = bookingRepository.findAllFutureBookingsByItemIdOrderByStartDesc(item.getId());
+        var bookings = bookingRepository.findNextBookingsByItemIdIn(List.of(item.getId()));
 
         // Assert
         assertEquals(1, bookings.size());
-        assertTrue(bookings.stream().findFirst().isPresent());
-
-        var firstBooking = bookings.stream().findFirst().get();
-        assertThat(firstBooking.getId(), notNullValue());
-        assertEquals(booking.getBooker().getId(), firstBooking.getBooker().getId());
-        assertEquals(booking.getItem().getId(), firstBooking.getItem().getId());
-        assertEquals(booking.getStatus(), firstBooking.getStatus());
+        assertEquals(nearestBooking.getId(), bookings.get(0).getId());
+        assertEquals(item.getId(), bookings.get(0).getItem().getId());
     }
 
     @Test
@@ -667,7 +779,7 @@ public class BookingRepositoryTest {
         userRepository.save(owner);
         userRepository.save(booker);
         itemRepository.save(item);
-        bookingRepository.save(booking);
+        bookingRepository.saveAndFlush(booking);
 
         Thread.sleep(3000);
 
@@ -686,4 +798,40 @@ public class BookingRepositoryTest {
         assertEquals(booking.getStatus(), firstBooking.getStatus());
     }
 
+    @Test
+    public void existsApprovedBookingByItemIdOverlapping_withApprovedBooking_detectsHalfOpenOverlap() {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+        var booker = new User(2L,
+                "Booker Name",
+                "booker.name@mail.com");
+        var item = new Item(
+                1L,
+                "Item Name",
+                "Item Description",
+                true,
+                owner,
+                null);
+        var start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        var end = start.plusDays(2);
+
+        owner = userRepository.save(owner);
+        booker = userRepository.save(booker);
+        item = itemRepository.save(item);
+        bookingRepository.save(new Booking(null, start, end, item, booker, Status.APPROVED));
+        bookingRepository.save(new Booking(null, end.plusDays(1), end.plusDays(2), item, booker, Status.WAITING));
+
+        // Act & Assert
+        assertTrue(bookingRepository.existsApprovedBookingByItemIdOverlapping(item.getId(),
+                start.plusDays(1), end.plusDays(1)));
+        assertTrue(bookingRepository.existsApprovedBookingByItemIdOverlapping(item.getId(),
+                start.minusHours(1), start.plusHours(1)));
+        assertFalse(bookingRepository.existsApprovedBookingByItemIdOverlapping(item.getId(),
+                end, end.plusDays(1)));
+        assertFalse(bookingRepository.existsApprovedBookingByItemIdOverlapping(item.getId(),
+                end.plusDays(1), end.plusDays(2)));
+    }
+
 }
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -15,7 +17,10 @@ import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
@@ -24,13 +29,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 @AutoConfigureTestDatabase
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
-@Sql(scripts = "classpath:schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
-@SpringBootTest
+@Sql(scripts = "classpath:db/migration/common/V1__create_schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class BookingServiceIntegrationTest {
 
     private final UserService userService;
     private final ItemService itemService;
     private final BookingService bookingService;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Test
     public void addBooking_withValidData_returnsBookingDto() {
@@ -78,4 +84,95 @@ public class BookingServiceIntegrationTest {
         assertEquals(bookingDto.getStatus(), addedBookingDto.getStatus());
     }
 
+    @Test
+    public void getBookings_withSeveralItemsAndBookers_runsConstantNumberOfStatements() {
+        // Arrange
+        var bookingIds = addBookingsOfTwoBookersForTwoItems();
+        var statistics = clearedStatistics();
+
+        // Act
+        var bookerBookings = bookingService.getBookings(2L, "ALL", null, null);
+        var bookerStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        var ownerBookings = bookingService.getBookingsByItemOwner(1L, "ALL", null, null);
+        var ownerStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        var bookerBookingsAfter = bookingService.getBookingsAfter(3L, "ALL", "", null);
+        var bookerAfterStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        var ownerBookingsAfter = bookingService.getBookingsByItemOwnerAfter(1L, "ALL", "", null);
+        var ownerAfterStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        var booking = bookingService.getBooking(1L, bookingIds[0]);
+        var bookingStatements = statistics.getPrepareStatementCount();
+
+        // Assert
+        assertEquals(2, bookerBookings.size());
+        assertEquals(4, ownerBookings.size());
+        assertEquals(2, bookerBookingsAfter.size());
+        assertEquals(4, ownerBookingsAfter.size());
+        assertEquals("Item 1", booking.getItem().getName());
+        assertEquals(1, bookerStatements);
+        assertEquals(1, ownerStatements);
+        assertEquals(1, bookerAfterStatements);
+        assertEquals(1, ownerAfterStatements);
+        assertEquals(1, bookingStatements);
+    }
+
+    @Test
+    public void addBookingsAndUpdateBookings_withValidData_persistsWholeBatch() {
+        // Arrange
+        userService.addUser(new UserDto(1L, "Owner Name", "owner.name@mail.com"));
+        userService.addUser(new UserDto(2L, "Booker Name", "booker.name@mail.com"));
+        itemService.addItem(1L, new ItemDto(1L, "Item 1", "Item Description", true, 1L, null));
+        itemService.addItem(1L, new ItemDto(2L, "Item 2", "Item Description", true, 1L, null));
+        var start = LocalDateTime.now().plusDays(1);
+        var bookingRequestBodies = List.of(
+                new BookingRequestBody(1L, start, start.plusHours(1)),
+                new BookingRequestBody(2L, start, start.plusHours(1)),
+                new BookingRequestBody(1L, start.plusDays(1), start.plusDays(1).plusHours(1)));
+
+        // Act
+        var addResults = bookingService.addBookings(2L, bookingRequestBodies);
+        var bookingIds = addResults
+                .stream()
+                .map(result -> result.getBooking().getId())
+                .collect(Collectors.toList());
+        var updateResults = bookingService.updateBookings(1L, bookingIds, true);
+
+        // Assert
+        assertEquals(3, bookingIds.stream().distinct().count());
+        updateResults.forEach(result -> assertEquals(Status.APPROVED, result.getBooking().getStatus()));
+        assertEquals(0, bookingService.getBookingsByItemOwner(1L, "WAITING", null, null).size());
+        assertEquals(3, bookingService.getBookingsByItemOwner(1L, "FUTURE", null, null).size());
+    }
+
+    private long[] addBookingsOfTwoBookersForTwoItems() {
+        userService.addUser(new UserDto(1L, "Owner Name", "owner.name@mail.com"));
+        userService.addUser(new UserDto(2L, "First Booker", "first.booker@mail.com"));
+        userService.addUser(new UserDto(3L, "Second Booker", "second.booker@mail.com"));
+        itemService.addItem(1L, new ItemDto(1L, "Item 1", "Item Description", true, 1L, null));
+        itemService.addItem(1L, new ItemDto(2L, "Item 2", "Item Description", true, 1L, null));
+
+        long[] bookingIds = new long[4];
+        int index = 0;
+
+        for (long bookerId = 2L; bookerId <= 3L; bookerId++) {
+            for (long itemId = 1L; itemId <= 2L; itemId++) {
+                var start = LocalDateTime.now().plusDays(index + 1);
+                bookingIds[index++] = bookingService
+                        .addBooking(bookerId, new BookingRequestBody(itemId, start, start.plusHours(1)))
+                        .getId();
+            }
+        }
+
+        return bookingIds;
+    }
+
+    private Statistics clearedStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
 }
@@ -4,18 +4,26 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.PageImpl;
+import ru.practicum.shareit.booking.availability.AvailabilityService;
 import ru.practicum.shareit.booking.dto.BookingRequestBody;
 import ru.practicum.shareit.booking.exception.*;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.stats.BookingStatsService;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.PagingPolicy;
+import ru.practicum.shareit.pagination.PagingProperties;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -24,8 +32,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
 
 @SpringBootTest
@@ -37,6 +45,10 @@ public class BookingServiceTest {
     private UserRepository userRepository;
     @Mock
     private BookingRepository bookingRepository;
+    @Mock
+    private AvailabilityService availabilityService;
+    @Mock
+    private BookingStatsService bookingStatsService;
 
     private BookingService bookingService;
 
@@ -46,7 +58,11 @@ public class BookingServiceTest {
         bookingService = new BookingServiceImpl(
                 bookingRepository,
                 itemRepository,
-                userRepository);
+                userRepository,
+                availabilityService,
+                new UserExistenceChecker(userRepository),
+                bookingStatsService,
+                new PagingPolicy(new PagingProperties()));
     }
 
     @Test
@@ -351,6 +367,39 @@ public class BookingServiceTest {
         assertThrows(InvalidDatesException.class, () -> bookingService.addBooking(2L, bookingRequestBody));
     }
 
+    @Test
+    public void addBooking_withPeriodOverlappingApprovedBooking_throwsOverlappingBookingException()
+            throws OverlappingBookingException {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+        var booker = new User(2L,
+                "Booker Name",
+                "booker.name@mail.com");
+        var item = new Item(
+                1L,
+                "Item Name",
+                "Item Description",
+                true,
+                owner,
+                null);
+        var bookingRequestBody = new BookingRequestBody(1L,
+                LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2));
+
+        when(itemRepository.findById(any()))
+                .thenReturn(Optional.of(item));
+        when(userRepository.findById(any()))
+                .thenReturn(Optional.of(booker));
+        when(bookingRepository.existsApprovedBookingByItemIdOverlapping(eq(1L), any(), any()))
+                .thenReturn(true);
+
+        // Act & Assert
+        assertThrows(OverlappingBookingException.class, () -> bookingService.addBooking(2L, bookingRequestBody));
+        verify(bookingRepository, never()).save(any());
+    }
+
     @Test
     public void getBooking_withValidData_returnsBookingDto() throws NoSuchElementException, AccessDeniedException {
         // Arrange
@@ -447,8 +496,8 @@ public class BookingServiceTest {
                 booker,
                 Status.WAITING);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
         when(bookingRepository.findById(any()))
                 .thenReturn(Optional.of(booking));
         when(bookingRepository.save(any()))
@@ -464,6 +513,42 @@ public class BookingServiceTest {
         assertEquals(Status.APPROVED, updatedBookingDto.getStatus());
     }
 
+    @Test
+    public void updateBooking_withApprovalOverlappingApprovedBooking_throwsOverlappingBookingException()
+            throws OverlappingBookingException {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+        var booker = new User(2L,
+                "Booker Name",
+                "booker.name@mail.com");
+        var item = new Item(
+                1L,
+                "Item Name",
+                "Item Description",
+                true,
+                owner,
+                null);
+        var booking = new Booking(1L,
+                LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2),
+                item,
+                booker,
+                Status.WAITING);
+
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findById(any()))
+                .thenReturn(Optional.of(booking));
+        when(bookingRepository.existsApprovedBookingByItemIdOverlapping(1L, booking.getStart(), booking.getEnd()))
+                .thenReturn(true);
+
+        // Act & Assert
+        assertThrows(OverlappingBookingException.class, () -> bookingService.updateBooking(1L, 1L, true));
+        verify(bookingRepository, never()).save(any());
+    }
+
     @Test
     public void updateBooking_withInvalidOwnerId_throwsNoSuchElementException() throws NoSuchElementException {
         // Act & Assert
@@ -477,8 +562,8 @@ public class BookingServiceTest {
                 "Booker Name",
                 "booker.name@mail.com");
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
 
         // Act & Assert
         assertThrows(NoSuchElementException.class, () -> bookingService.updateBooking(1L, 1L, true));
@@ -507,8 +592,8 @@ public class BookingServiceTest {
                 booker,
                 Status.WAITING);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
         when(bookingRepository.findById(any()))
                 .thenReturn(Optional.of(booking));
 
@@ -539,8 +624,8 @@ public class BookingServiceTest {
                 booker,
                 Status.APPROVED);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
         when(bookingRepository.findById(any()))
                 .thenReturn(Optional.of(booking));
 
@@ -572,10 +657,10 @@ public class BookingServiceTest {
                 booker,
                 Status.WAITING);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllByBookerIdOrderByStartDesc(anyLong(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookings(2L, "ALL", null, null);
@@ -614,10 +699,10 @@ public class BookingServiceTest {
                 booker,
                 Status.WAITING);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllCurrentBookingsByBookerIdOrderByIdAsc(anyLong(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookings(2L, "CURRENT", null, null);
@@ -656,10 +741,10 @@ public class BookingServiceTest {
                 booker,
                 Status.APPROVED);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllPastBookingsByBookerIdOrderByStartDesc(anyLong(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookings(2L, "PAST", null, null);
@@ -698,10 +783,10 @@ public class BookingServiceTest {
                 booker,
                 Status.APPROVED);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllFutureBookingsByBookerIdOrderByStartDesc(anyLong(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookings(2L, "FUTURE", null, null);
@@ -740,10 +825,10 @@ public class BookingServiceTest {
                 booker,
                 Status.WAITING);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllByBookerIdAndStatusOrderByIdAsc(anyLong(), any(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookings(2L, "WAITING", null, null);
@@ -782,10 +867,10 @@ public class BookingServiceTest {
                 booker,
                 Status.REJECTED);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllByBookerIdAndStatusOrderByIdAsc(anyLong(), any(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookings(2L, "REJECTED", null, null);
@@ -813,8 +898,8 @@ public class BookingServiceTest {
                 "Booker Name",
                 "booker.name@mail.com");
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> bookingService.getBookings(1L, "ALL", -1, -1));
@@ -844,10 +929,10 @@ public class BookingServiceTest {
                 booker,
                 Status.WAITING);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllByItemOwnerIdOrderByStartDesc(anyLong(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookingsByItemOwner(1L, "ALL", null, null);
@@ -886,10 +971,10 @@ public class BookingServiceTest {
                 booker,
                 Status.APPROVED);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllCurrentBookingsByItemOwnerIdOrderByIdAsc(anyLong(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookingsByItemOwner(1L, "CURRENT", null, null);
@@ -928,10 +1013,10 @@ public class BookingServiceTest {
                 booker,
                 Status.APPROVED);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllPastBookingsByItemOwnerIdOrderByStartDesc(anyLong(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookingsByItemOwner(1L, "PAST", null, null);
@@ -970,10 +1055,10 @@ public class BookingServiceTest {
                 booker,
                 Status.WAITING);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllFutureBookingsByItemOwnerIdOrderByStartDesc(anyLong(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookingsByItemOwner(1L, "FUTURE", null, null);
@@ -1012,10 +1097,10 @@ public class BookingServiceTest {
                 booker,
                 Status.WAITING);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllByItemOwnerIdAndStatusOrderByIdAsc(anyLong(), any(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookingsByItemOwner(1L, "WAITING", null, null);
@@ -1054,10 +1139,10 @@ public class BookingServiceTest {
                 booker,
                 Status.REJECTED);
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllByItemOwnerIdAndStatusOrderByIdAsc(anyLong(), any(), any()))
-                .thenReturn(new PageImpl<>(List.of(booking)));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
 
         // Act
         var bookings = bookingService.getBookingsByItemOwner(1L, "REJECTED", null, null);
@@ -1085,11 +1170,202 @@ public class BookingServiceTest {
                 "Owner Name",
                 "owner.name@mail.com");
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(owner));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> bookingService.getBookingsByItemOwner(1L, "ALL", -1, -1));
     }
 
+    @Test
+    public void getBookingsAfter_withValidDataWithAllState_seeksFromCursor()
+            throws NoSuchElementException, IllegalArgumentException {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+        var booker = new User(2L,
+                "Booker Name",
+                "booker.name@mail.com");
+        var item = new Item(
+                1L,
+                "Item Name",
+                "Item Description",
+                true,
+                owner,
+                null);
+        var booking = new Booking(1L,
+                LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2),
+                item,
+                booker,
+                Status.WAITING);
+        var cursorStart = LocalDateTime.now().plusDays(3);
+
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
+
+        // Act
+        var bookings = bookingService.getBookingsAfter(2L, "ALL", Cursor.of(cursorStart, 5L).encode(), 10);
+
+        // Assert
+        assertEquals(1, bookings.size());
+        assertEquals(booking.getId(), bookings.stream().findFirst().get().getId());
+        verify(bookingRepository, times(1))
+                .findAllByFilter(argThat(filter -> filter.getBookerId() == 2L &&
+                        filter.getState() == State.ALL &&
+                        filter.getAfter().getId() == 5L &&
+                        cursorStart.equals(filter.getAfter().getStart())), any());
+    }
+
+    @Test
+    public void getBookingsByItemOwnerAfter_withValidDataWithWaitingStateAndEmptyCursor_seeksFromFirstPage()
+            throws NoSuchElementException, IllegalArgumentException {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+        var booker = new User(2L,
+                "Booker Name",
+                "booker.name@mail.com");
+        var item = new Item(
+                1L,
+                "Item Name",
+                "Item Description",
+                true,
+                owner,
+                null);
+        var booking = new Booking(1L,
+                LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2),
+                item,
+                booker,
+                Status.WAITING);
+
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByFilter(any(), any()))
+                .thenReturn(List.of(booking));
+
+        // Act
+        var bookings = bookingService.getBookingsByItemOwnerAfter(1L, "WAITING", "", 10);
+
+        // Assert
+        assertEquals(1, bookings.size());
+        verify(bookingRepository, times(1))
+                .findAllByFilter(argThat(filter -> filter.getItemOwnerId() == 1L &&
+                        filter.getState() == State.WAITING &&
+                        filter.getAfter() == null), any());
+    }
+
+    @Test
+    public void getBookingsAfter_withMalformedCursor_throwsIllegalArgumentException() throws IllegalArgumentException {
+        // Arrange
+        var booker = new User(2L,
+                "Booker Name",
+                "booker.name@mail.com");
+
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> bookingService.getBookingsAfter(2L, "ALL", "???", 10));
+    }
+
+    @Test
+    public void addBookings_withOneEntryForOwnItem_savesOtherEntriesAndReportsError() {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+        var booker = new User(2L,
+                "Booker Name",
+                "booker.name@mail.com");
+        var item = new Item(
+                1L,
+                "Item Name",
+                "Item Description",
+                true,
+                owner,
+                null);
+        var ownItem = new Item(
+                2L,
+                "Own Item Name",
+                "Own Item Description",
+                true,
+                booker,
+                null);
+        var start = LocalDateTime.now().plusDays(1);
+
+        when(userRepository.findById(any()))
+                .thenReturn(Optional.of(booker));
+        when(itemRepository.findAllById(any()))
+                .thenReturn(List.of(item, ownItem));
+        when(bookingRepository.saveAll(any()))
+                .thenAnswer(invocation -> {
+                    var bookings = new ArrayList<Booking>(invocation.getArgument(0));
+                    long id = 1L;
+
+                    for (Booking booking : bookings) {
+                        booking.setId(id++);
+                    }
+
+                    return bookings;
+                });
+
+        // Act
+        var results = bookingService.addBookings(2L, List.of(
+                new BookingRequestBody(1L, start, start.plusHours(1)),
+                new BookingRequestBody(2L, start, start.plusHours(1)),
+                new BookingRequestBody(1L, start.plusDays(1), start.plusDays(1).plusHours(1))));
+
+        // Assert
+        assertEquals(3, results.size());
+        assertEquals(1L, results.get(0).getBooking().getItem().getId());
+        assertNull(results.get(1).getBooking());
+        assertEquals("Владелец не может бронировать свою вещь", results.get(1).getError());
+        assertEquals(Status.WAITING, results.get(2).getBooking().getStatus());
+        verify(bookingRepository, times(1)).saveAll(argThat(bookings -> ((Collection<?>) bookings).size() == 2));
+    }
+
+    @Test
+    public void updateBookings_withOverlappingApprovals_approvesOnlyFirstBooking() {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+        var booker = new User(2L,
+                "Booker Name",
+                "booker.name@mail.com");
+        var item = new Item(
+                1L,
+                "Item Name",
+                "Item Description",
+                true,
+                owner,
+                null);
+        var start = LocalDateTime.now().plusDays(1);
+        var first = new Booking(1L, start, start.plusHours(2), item, booker, Status.WAITING);
+        var second = new Booking(2L, start.plusHours(1), start.plusHours(3), item, booker, Status.WAITING);
+
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
+        when(bookingRepository.findAllByIdIn(any()))
+                .thenReturn(List.of(first, second));
+        when(bookingRepository.saveAll(any()))
+                .thenAnswer(invocation -> new ArrayList<Booking>(invocation.getArgument(0)));
+
+        // Act
+        var results = bookingService.updateBookings(1L, List.of(1L, 2L, 3L), true);
+
+        // Assert
+        assertEquals(Status.APPROVED, results.get(0).getBooking().getStatus());
+        assertNull(results.get(1).getBooking());
+        assertEquals("Вещь с идентификатором 1 уже забронирована на эти даты", results.get(1).getError());
+        assertEquals("Бронирования с идентификатором 3 не существует", results.get(2).getError());
+        assertEquals(Status.WAITING, second.getStatus());
+    }
+
 }
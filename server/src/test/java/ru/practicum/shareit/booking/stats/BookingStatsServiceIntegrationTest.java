@@ -0,0 +1,83 @@
+package ru.practicum.shareit.booking.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+import ru.practicum.shareit.booking.dto.BookingRequestBody;
+import ru.practicum.shareit.booking.dto.BookingStatsDto;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Sql(scripts = "classpath:db/migration/common/V1__create_schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest
+public class BookingStatsServiceIntegrationTest {
+
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingService bookingService;
+    private final BookingStatsService bookingStatsService;
+
+    @Test
+    public void getStatsByItemOwner_afterAddingAndUpdatingBookings_countsByStatusAndState() {
+        // Arrange
+        userService.addUser(new UserDto(1L, "Owner Name", "owner.name@mail.com"));
+        userService.addUser(new UserDto(2L, "Booker Name", "booker.name@mail.com"));
+        itemService.addItem(1L, new ItemDto(1L, "Item 1", "Item Description", true, 1L, null));
+        itemService.addItem(1L, new ItemDto(2L, "Item 2", "Item Description", true, 1L, null));
+
+        var start = LocalDateTime.now().plusDays(1);
+        var approvedId = bookingService
+                .addBooking(2L, new BookingRequestBody(1L, start, start.plusHours(1)))
+                .getId();
+        var rejectedId = bookingService
+                .addBooking(2L, new BookingRequestBody(1L, start.plusDays(1), start.plusDays(1).plusHours(1)))
+                .getId();
+        bookingService.addBooking(2L, new BookingRequestBody(2L, start, start.plusHours(1)));
+        bookingService.updateBooking(1L, approvedId, true);
+        bookingService.updateBooking(1L, rejectedId, false);
+
+        // Act
+        var stats = bookingStatsService.getStatsByItemOwner(1L);
+
+        // Assert
+        var items = new ArrayList<>(stats.getItems());
+        assertEquals(2, items.size());
+
+        BookingStatsDto firstItem = items.get(0);
+        assertEquals(1L, firstItem.getItemId());
+        assertEquals(0L, firstItem.getByStatus().get(Status.WAITING));
+        assertEquals(1L, firstItem.getByStatus().get(Status.APPROVED));
+        assertEquals(1L, firstItem.getByStatus().get(Status.REJECTED));
+        assertEquals(1L, firstItem.getByState().get(State.FUTURE));
+        assertEquals(0L, firstItem.getByState().get(State.PAST));
+
+        BookingStatsDto secondItem = items.get(1);
+        assertEquals(2L, secondItem.getItemId());
+        assertEquals(1L, secondItem.getByStatus().get(Status.WAITING));
+        assertEquals(1L, secondItem.getByState().get(State.FUTURE));
+
+        assertEquals(1L, stats.getTotal().getByStatus().get(Status.WAITING));
+        assertEquals(1L, stats.getTotal().getByStatus().get(Status.APPROVED));
+        assertEquals(1L, stats.getTotal().getByStatus().get(Status.REJECTED));
+        assertEquals(0L, stats.getTotal().getByState().get(State.CURRENT));
+        assertEquals(2L, stats.getTotal().getByState().get(State.FUTURE));
+    }
+
+}
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.export;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+import ru.practicum.shareit.booking.dto.BookingRequestBody;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Sql(scripts = "classpath:db/migration/common/V1__create_schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest
+public class ExportServiceIntegrationTest {
+
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingService bookingService;
+    private final ExportService exportService;
+
+    @Test
+    public void exportBookingsByItemOwner_withJsonLines_writesOneLinePerBooking() throws Exception {
+        // Arrange
+        userService.addUser(new UserDto(1L, "Owner Name", "owner.name@mail.com"));
+        userService.addUser(new UserDto(2L, "Booker Name", "booker.name@mail.com"));
+        itemService.addItem(1L, new ItemDto(1L, "Item Name", "Item Description", true, 1L, null));
+        var start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 3; i++) {
+            bookingService.addBooking(2L, new BookingRequestBody(1L, start.plusDays(i), start.plusDays(i).plusHours(1)));
+        }
+        var output = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportBookingsByItemOwner(1L, "ALL", ExportFormat.JSON_LINES).writeTo(output);
+
+        // Assert
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"status\":\"WAITING\""));
+        assertTrue(lines[1].startsWith("{"));
+        assertTrue(lines[2].startsWith("{"));
+    }
+
+    @Test
+    public void exportItemsByOwner_withCsv_writesHeaderAndQuotedFields() throws Exception {
+        // Arrange
+        userService.addUser(new UserDto(1L, "Owner Name", "owner.name@mail.com"));
+        itemService.addItem(1L, new ItemDto(1L, "Drill", "Cordless, with \"two\" batteries", true, 1L, null));
+        var output = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportItemsByOwner(1L, ExportFormat.CSV).writeTo(output);
+
+        // Assert
+        var lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,name,description,available,requestId", lines[0]);
+        assertTrue(lines[1].endsWith(",Drill,\"Cordless, with \"\"two\"\" batteries\",true,"));
+    }
+
+    @Test
+    public void exportBookings_withUnknownUser_throwsBeforeStreaming() {
+        // Act & Assert
+        assertThrows(NoSuchElementException.class,
+                () -> exportService.exportBookings(1L, "ALL", ExportFormat.CSV));
+    }
+
+}
@@ -5,15 +5,23 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.availability.AvailabilityService;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentRequestBody;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemExtendedDto;
+import ru.practicum.shareit.item.dto.ItemImportErrorDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.importing.ItemImportFormat;
+import ru.practicum.shareit.item.importing.ItemImportService;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.PagingPolicy;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -27,6 +35,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemController.class)
+@Import(PagingPolicy.class)
 public class ItemControllerTest {
 
     private final ItemDto itemDto = new ItemDto(
@@ -59,6 +68,10 @@ public class ItemControllerTest {
     ObjectMapper mapper;
     @MockBean
     ItemService itemService;
+    @MockBean
+    AvailabilityService availabilityService;
+    @MockBean
+    ItemImportService itemImportService;
     @Autowired
     MockMvc mvc;
 
@@ -111,6 +124,27 @@ public class ItemControllerTest {
                 .andExpect(jsonPath("$.nextBooking.bookerId", is(itemExtendedDto.getNextBooking().getBookerId()), Long.class));
     }
 
+    @Test
+    public void getItemAvailability_withValidData_returnsOk() throws Exception {
+        // Arrange
+        var from = LocalDateTime.of(2030, 1, 1, 10, 0, 30);
+        var to = from.plusHours(2);
+        var availabilityDto = new ItemAvailabilityDto(1L, from, to, false, to.plusHours(1), to.plusHours(3));
+
+        when(availabilityService.getAvailability(1L, from, to))
+                .thenReturn(availabilityDto);
+
+        // Act & Assert
+        mvc.perform(get("/items/1/availability")
+                        .param("from", "2030-01-01T10:00:30")
+                        .param("to", "2030-01-01T12:00:30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId", is(availabilityDto.getItemId()), Long.class))
+                .andExpect(jsonPath("$.available", is(false)))
+                .andExpect(jsonPath("$.nextFreeStart", is("2030-01-01T13:00:30")))
+                .andExpect(jsonPath("$.nextFreeEnd", is("2030-01-01T15:00:30")));
+    }
+
     @Test
     public void updateItem_withValidData_returnsOk() throws Exception {
         // Arrange
@@ -215,4 +249,25 @@ public class ItemControllerTest {
                 .andExpect(jsonPath("$.authorName", is(commentDto.getAuthorName())));
     }
 
+    @Test
+    public void importItems_withCsv_returnsOk() throws Exception {
+        // Arrange
+        var headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", "1");
+
+        when(itemImportService.importItems(anyLong(), eq(ItemImportFormat.CSV), any(), eq(StandardCharsets.UTF_8)))
+                .thenReturn(new ItemImportResultDto(2, 1, 1, List.of(new ItemImportErrorDto(2, "Ошибка"))));
+
+        // Act & Assert
+        mvc.perform(post("/items/import")
+                        .headers(headers)
+                        .content("name,description,available\nItem Name,Item Description,true\n,,\n")
+                        .contentType("text/csv")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed", is(2)))
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.errors[0].row", is(2)));
+    }
+
 }
@@ -0,0 +1,117 @@
+package ru.practicum.shareit.item.importing;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+import ru.practicum.shareit.booking.stats.BookingStatsService;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestRequestBody;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Sql(scripts = "classpath:db/migration/common/V1__create_schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest
+public class ItemImportServiceIntegrationTest {
+
+    private final UserService userService;
+    private final ItemService itemService;
+    private final ItemRequestService itemRequestService;
+    private final ItemImportService itemImportService;
+    private final BookingStatsService bookingStatsService;
+
+    @Test
+    public void importItems_withCsv_savesValidRowsAndReportsInvalidOnes() throws Exception {
+        // Arrange
+        userService.addUser(new UserDto(1L, "Owner Name", "owner.name@mail.com"));
+        userService.addUser(new UserDto(2L, "Requester Name", "requester.name@mail.com"));
+        var requestId = itemRequestService
+                .addItemRequest(2L, new ItemRequestRequestBody("Request Description"))
+                .getId();
+        var csv = "name,description,available,requestId\n"
+                + "Drill,\"Cordless, with \"\"two\"\" batteries\",true," + requestId + "\n"
+                + "Saw,,true,\n"
+                + "\n"
+                + "Ladder,Folding ladder,maybe,\n"
+                + "Tent,\"Two\nrooms\",false,\n";
+
+        // Act
+        var result = itemImportService.importItems(1L,
+                ItemImportFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(4, result.getProcessed());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertEquals(3, result.getErrors().get(1).getRow());
+
+        var items = itemService.getItemsByOwnerId(1L, null, null);
+        assertEquals(2, items.size());
+        assertEquals("Cordless, with \"two\" batteries", items.iterator().next().getDescription());
+        assertEquals(1, itemRequestService.getItemRequest(2L, requestId).getItems().size());
+        assertEquals(2, bookingStatsService.getStatsByItemOwner(1L).getItems().size());
+    }
+
+    @Test
+    public void importItems_withJsonLines_savesValidRowsAndReportsInvalidOnes() throws Exception {
+        // Arrange
+        userService.addUser(new UserDto(1L, "Owner Name", "owner.name@mail.com"));
+        var jsonLines = "{\"name\":\"Drill\",\"description\":\"Cordless drill\",\"available\":true}\n"
+                + "not json\n"
+                + "{\"name\":\"Saw\",\"description\":\"Hand saw\",\"available\":false}\n";
+
+        // Act
+        var result = itemImportService.importItems(1L,
+                ItemImportFormat.JSON_LINES,
+                new ByteArrayInputStream(jsonLines.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(3, result.getProcessed());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertEquals(2, itemService.getItemsByOwnerId(1L, null, null).size());
+    }
+
+    @Test
+    public void importItems_withChunkRejectedByDatabase_keepsSavedChunksAndReportsRejectedRows() throws Exception {
+        // Arrange
+        userService.addUser(new UserDto(1L, "Owner Name", "owner.name@mail.com"));
+        var jsonLines = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            jsonLines.append("{\"name\":\"Drill\",\"description\":\"Cordless drill\",\"available\":true}\n");
+        }
+        jsonLines.append("{\"name\":\"Saw\",\"description\":\"Hand saw\",\"available\":true}\n");
+        jsonLines.append("{\"name\":\"Tent\",\"description\":\"" + "x".repeat(2000) + "\",\"available\":true}\n");
+
+        // Act
+        var result = itemImportService.importItems(1L,
+                ItemImportFormat.JSON_LINES,
+                new ByteArrayInputStream(jsonLines.toString().getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(502, result.getProcessed());
+        assertEquals(500, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(501, result.getErrors().get(0).getRow());
+        assertEquals(502, result.getErrors().get(1).getRow());
+        assertEquals(500, itemService.getItemsByOwnerId(1L, 0, 1000).size());
+    }
+
+}
@@ -15,6 +15,7 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -24,7 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 @AutoConfigureTestDatabase
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
-@Sql(scripts = "classpath:schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:db/migration/common/V1__create_schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @DataJpaTest
 public class CommentRepositoryTest {
 
@@ -73,4 +74,45 @@ public class CommentRepositoryTest {
         assertEquals(comment.getCreated(), firstComment.getCreated());
     }
 
+    @Test
+    public void findAllByItemIdInOrderByIdAsc_withValidSearchParams_returnsCommentCollection() {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+        var author = new User(2L,
+                "Author Name",
+                "author.name@mail.com");
+        var firstItem = new Item(
+                1L,
+                "First Item Name",
+                "First Item Description",
+                true,
+                owner,
+                null);
+        var secondItem = new Item(
+                2L,
+                "Second Item Name",
+                "Second Item Description",
+                true,
+                owner,
+                null);
+
+        userRepository.save(owner);
+        author = userRepository.save(author);
+        firstItem = itemRepository.save(firstItem);
+        secondItem = itemRepository.save(secondItem);
+        commentRepository.save(new Comment(1L, "First Text", firstItem, author, LocalDateTime.now()));
+        commentRepository.save(new Comment(2L, "Second Text", secondItem, author, LocalDateTime.now()));
+
+        // Act
+        var comments = commentRepository.findAllByItemIdInOrderByIdAsc(List.of(firstItem.getId(), secondItem.getId()));
+
+        // Assert
+        assertEquals(2, comments.size());
+        assertEquals(firstItem.getId(), comments.get(0).getItem().getId());
+        assertEquals(secondItem.getId(), comments.get(1).getItem().getId());
+        assertEquals(author.getName(), comments.get(0).getAuthor().getName());
+    }
+
 }
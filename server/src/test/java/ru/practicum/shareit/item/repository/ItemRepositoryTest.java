@@ -20,7 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 @AutoConfigureTestDatabase
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
-@Sql(scripts = "classpath:schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:db/migration/common/V1__create_schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @DataJpaTest
 public class ItemRepositoryTest {
 
@@ -93,4 +93,52 @@ public class ItemRepositoryTest {
         assertEquals(item.getOwner().getId(), firstItem.getOwner().getId());
     }
 
+    @Test
+    public void findAllByOwnerIdAndIdGreaterThanOrderByIdAsc_withCursor_returnsItemsAfterCursor() {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+
+        owner = userRepository.save(owner);
+        var first = itemRepository.save(new Item(null, "First Item", "First Description", true, owner, null));
+        var second = itemRepository.save(new Item(null, "Second Item", "Second Description", true, owner, null));
+
+        // Act
+        var firstPage = itemRepository.findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(owner.getId(), 0L, Pageable.ofSize(1));
+        var secondPage = itemRepository.findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(owner.getId(), first.getId(), Pageable.ofSize(1));
+
+        // Assert
+        assertEquals(1, firstPage.size());
+        assertEquals(first.getId(), firstPage.get(0).getId());
+        assertEquals(1, secondPage.size());
+        assertEquals(second.getId(), secondPage.get(0).getId());
+    }
+
+    @Test
+    public void findAllAvailableItemsByLowerNameOrDescription_withMixedCaseSubstring_returnsAvailableMatches() {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+
+        owner = userRepository.save(owner);
+        var drill = itemRepository.save(new Item(null, "Cordless Drill", "Battery powered", true, owner, null));
+        var hammerDrill = itemRepository.save(new Item(null, "Hammer", "Hammer DRILL attachment", true, owner, null));
+        itemRepository.save(new Item(null, "Old Drill", "Broken", false, owner, null));
+        itemRepository.save(new Item(null, "Saw", "Hand saw", true, owner, null));
+
+        // Act
+        var items = itemRepository.findAllAvailableItemsByLowerNameOrDescription("dRiLl", Pageable.unpaged());
+        var itemsAfter = itemRepository
+                .findAllAvailableItemsByLowerNameOrDescriptionAndIdGreaterThan("dRiLl", drill.getId(), Pageable.unpaged());
+
+        // Assert
+        assertEquals(2, items.size());
+        assertEquals(drill.getId(), items.get(0).getId());
+        assertEquals(hammerDrill.getId(), items.get(1).getId());
+        assertEquals(1, itemsAfter.size());
+        assertEquals(hammerDrill.getId(), itemsAfter.get(0).getId());
+    }
+
 }
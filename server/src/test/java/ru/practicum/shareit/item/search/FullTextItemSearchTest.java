@@ -0,0 +1,38 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class FullTextItemSearchTest {
+
+    @Test
+    public void toPrefixQuery_withSeveralWords_returnsConjunctionOfPrefixes() {
+        // Act
+        var query = FullTextItemSearch.toPrefixQuery("Аккумуляторная  ДРЕЛЬ");
+
+        // Assert
+        assertEquals("аккумуляторная:* & дрель:*", query);
+    }
+
+    @Test
+    public void toPrefixQuery_withTsQueryOperators_dropsOperators() {
+        // Act
+        var query = FullTextItemSearch.toPrefixQuery("drill & !saw | (hammer):*");
+
+        // Assert
+        assertEquals("drill:* & saw:* & hammer:*", query);
+    }
+
+    @Test
+    public void toPrefixQuery_withoutWords_returnsEmptyString() {
+        // Act
+        var query = FullTextItemSearch.toPrefixQuery(" &|! ");
+
+        // Assert
+        assertEquals("", query);
+    }
+
+}
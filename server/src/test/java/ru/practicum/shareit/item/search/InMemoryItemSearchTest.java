@@ -0,0 +1,224 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+@SpringBootTest
+public class InMemoryItemSearchTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private InMemoryItemSearch itemSearch;
+
+    private final User owner = new User(1L, "Owner Name", "owner.name@mail.com");
+
+    private final Item drill = new Item(1L, "Cordless Drill", "Battery powered", true, owner, null);
+
+    private final Item hammerDrill = new Item(2L, "Hammer", "Hammer drill attachment", true, owner, null);
+
+    private final Item saw = new Item(3L, "Saw", "Hand saw", true, owner, null);
+
+    @BeforeEach
+    public void setUp() {
+        openMocks(this);
+        itemSearch = new InMemoryItemSearch(itemRepository);
+
+        when(itemRepository.findAllById(any()))
+                .thenAnswer(invocation -> {
+                    Iterable<Long> ids = invocation.getArgument(0);
+                    return List.of(drill, hammerDrill, saw)
+                            .stream()
+                            .filter(item -> contains(ids, item.getId()))
+                            .collect(Collectors.toList());
+                });
+    }
+
+    @Test
+    public void warmUp_withAvailableItems_indexesAllBatches() {
+        // Arrange
+        when(itemRepository.findAllByAvailableTrueAndIdGreaterThanOrderByIdAsc(anyLong(), any()))
+                .thenReturn(List.of(drill, hammerDrill, saw));
+
+        // Act
+        itemSearch.warmUp();
+        var items = itemSearch.search("saw", Pageable.unpaged());
+
+        // Assert
+        assertEquals(1, items.size());
+        assertEquals(saw.getId(), items.get(0).getId());
+        verify(itemRepository, times(1)).findAllByAvailableTrueAndIdGreaterThanOrderByIdAsc(anyLong(), any());
+    }
+
+    @Test
+    public void warmUp_withItemRemovedDuringWarmUp_keepsItemRemoved() {
+        // Arrange
+        when(itemRepository.findAllByAvailableTrueAndIdGreaterThanOrderByIdAsc(anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    itemSearch.remove(drill.getId());
+                    return List.of(drill, hammerDrill);
+                });
+
+        // Act
+        itemSearch.warmUp();
+        var items = itemSearch.search("drill", Pageable.unpaged());
+
+        // Assert
+        assertEquals(List.of(hammerDrill.getId()), ids(items));
+    }
+
+    @Test
+    public void search_withWordPrefixes_returnsItemsMatchingEveryWordInIdOrder() {
+        // Arrange
+        itemSearch.index(saw);
+        itemSearch.index(hammerDrill);
+        itemSearch.index(drill);
+
+        // Act
+        var drills = itemSearch.search("DRI", Pageable.ofSize(10));
+        var hammerDrills = itemSearch.search("dri ham", Pageable.ofSize(10));
+
+        // Assert
+        assertEquals(List.of(drill.getId(), hammerDrill.getId()), ids(drills));
+        assertEquals(List.of(hammerDrill.getId()), ids(hammerDrills));
+    }
+
+    @Test
+    public void search_withShortPrefixAndOffset_returnsRequestedPage() {
+        // Arrange
+        itemSearch.index(drill);
+        itemSearch.index(hammerDrill);
+        itemSearch.index(saw);
+
+        // Act
+        var firstPage = itemSearch.search("h", Pageable.ofSize(1));
+        var secondPage = itemSearch.search("h", Pageable.ofSize(1).withPage(1));
+        var lastPage = itemSearch.search("h", Pageable.ofSize(1).withPage(2));
+
+        // Assert
+        assertEquals(List.of(hammerDrill.getId()), ids(firstPage));
+        assertEquals(List.of(saw.getId()), ids(secondPage));
+        assertTrue(lastPage.isEmpty());
+    }
+
+    @Test
+    public void search_afterItemRemoved_excludesItemFromShortPrefixResults() {
+        // Arrange
+        itemSearch.index(drill);
+        itemSearch.index(hammerDrill);
+
+        // Act
+        itemSearch.remove(hammerDrill.getId());
+        var items = itemSearch.search("ha", Pageable.unpaged());
+
+        // Assert
+        assertTrue(items.isEmpty());
+        assertEquals(List.of(drill.getId()), ids(itemSearch.search("dr", Pageable.unpaged())));
+    }
+
+    @Test
+    public void search_withSubstringInsideWord_returnsNothing() {
+        // Arrange
+        itemSearch.index(drill);
+
+        // Act
+        var items = itemSearch.search("rill", Pageable.unpaged());
+
+        // Assert
+        assertTrue(items.isEmpty());
+    }
+
+    @Test
+    public void searchAfter_withCursor_returnsNextPage() {
+        // Arrange
+        itemSearch.index(drill);
+        itemSearch.index(hammerDrill);
+
+        // Act
+        var firstPage = itemSearch.searchAfter("drill", 0, Pageable.ofSize(1));
+        var secondPage = itemSearch.searchAfter("drill", drill.getId(), Pageable.ofSize(1));
+
+        // Assert
+        assertEquals(List.of(drill.getId()), ids(firstPage));
+        assertEquals(List.of(hammerDrill.getId()), ids(secondPage));
+    }
+
+    @Test
+    public void index_withUpdatedOrUnavailableItem_replacesPreviousWords() {
+        // Arrange
+        itemSearch.index(drill);
+        itemSearch.index(saw);
+        var renamedDrill = new Item(drill.getId(), "Screwdriver", "Battery powered", true, owner, null);
+        var unavailableSaw = new Item(saw.getId(), "Saw", "Hand saw", false, owner, null);
+
+        // Act
+        itemSearch.index(renamedDrill);
+        itemSearch.index(unavailableSaw);
+
+        // Assert
+        assertTrue(itemSearch.search("drill", Pageable.unpaged()).isEmpty());
+        assertEquals(List.of(drill.getId()), ids(itemSearch.search("screw", Pageable.unpaged())));
+        assertTrue(itemSearch.search("saw", Pageable.unpaged()).isEmpty());
+    }
+
+    @Test
+    public void remove_withIndexedItem_excludesItemFromResults() {
+        // Arrange
+        itemSearch.index(drill);
+        itemSearch.index(hammerDrill);
+
+        // Act
+        itemSearch.remove(drill.getId());
+        var items = itemSearch.search("drill", Pageable.unpaged());
+
+        // Assert
+        assertEquals(List.of(hammerDrill.getId()), ids(items));
+    }
+
+    @Test
+    public void search_withoutWords_returnsEmptyCollection() {
+        // Arrange
+        itemSearch.index(drill);
+
+        // Act
+        var items = itemSearch.search(" ,. ", Pageable.unpaged());
+
+        // Assert
+        assertTrue(items.isEmpty());
+        verify(itemRepository, never()).findAllById(any());
+    }
+
+    private static boolean contains(Iterable<Long> ids, Long id) {
+        for (Long candidate : ids) {
+            if (candidate.equals(id)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static List<Long> ids(List<Item> items) {
+        return items
+                .stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+    }
+
+}
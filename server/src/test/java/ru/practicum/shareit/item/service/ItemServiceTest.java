@@ -8,7 +8,9 @@ import org.springframework.data.domain.PageImpl;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.exception.AccessDeniedException;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.stats.BookingStatsService;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentRequestBody;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -18,10 +20,14 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.LikeItemSearch;
+import ru.practicum.shareit.pagination.PagingPolicy;
+import ru.practicum.shareit.pagination.PagingProperties;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import javax.validation.ValidationException;
 import java.time.LocalDateTime;
@@ -48,6 +54,8 @@ public class ItemServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private ItemRequestRepository itemRequestRepository;
+    @Mock
+    private BookingStatsService bookingStatsService;
 
     private ItemService itemService;
 
@@ -59,7 +67,11 @@ public class ItemServiceTest {
                 userRepository,
                 bookingRepository,
                 commentRepository,
-                itemRequestRepository);
+                itemRequestRepository,
+                new LikeItemSearch(itemRepository),
+                new UserExistenceChecker(userRepository),
+                bookingStatsService,
+                new PagingPolicy(new PagingProperties()));
     }
 
     @Test
@@ -226,10 +238,10 @@ public class ItemServiceTest {
                 .thenReturn(Optional.of(owner));
         when(itemRepository.findById(anyLong()))
                 .thenReturn(Optional.of(item));
-        when(bookingRepository.findAllCurrentOrPastBookingsByItemIdOrderByStartAsc(anyLong()))
-                .thenReturn(Collections.emptyList());
-        when(bookingRepository.findAllFutureBookingsByItemIdOrderByStartDesc(anyLong()))
-                .thenReturn(Collections.emptyList());
+        when(bookingRepository.findLastBookingByItemId(anyLong(), any()))
+                .thenReturn(List.of(new BookingShortDto(2L, 2L)));
+        when(bookingRepository.findNextBookingByItemId(anyLong(), any()))
+                .thenReturn(List.of(new BookingShortDto(3L, 3L)));
         when(commentRepository.findAllByItemIdOrderByIdAsc(anyLong()))
                 .thenReturn(Collections.emptyList());
 
@@ -242,8 +254,8 @@ public class ItemServiceTest {
         assertEquals(itemExtendedDto.getDescription(), foundItemDto.getDescription());
         assertEquals(itemExtendedDto.isAvailable(), foundItemDto.isAvailable());
         assertEquals(itemExtendedDto.getOwnerId(), foundItemDto.getOwnerId());
-        assertNull(foundItemDto.getLastBooking());
-        assertNull(foundItemDto.getNextBooking());
+        assertEquals(itemExtendedDto.getLastBooking().getId(), foundItemDto.getLastBooking().getId());
+        assertEquals(itemExtendedDto.getNextBooking().getId(), foundItemDto.getNextBooking().getId());
         assertEquals(0, foundItemDto.getComments().size());
     }
 
@@ -276,8 +288,8 @@ public class ItemServiceTest {
 
         when(itemRepository.findById(anyLong()))
                 .thenReturn(Optional.of(item));
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(owner));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
         when(itemRepository.save(any()))
                 .thenReturn(item);
 
@@ -339,8 +351,8 @@ public class ItemServiceTest {
 
         when(itemRepository.findById(anyLong()))
                 .thenReturn(Optional.of(item));
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(owner));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
 
         // Act & Assert
         assertThrows(NoSuchElementException.class, () -> itemService.updateItem(1L, 1L, null));
@@ -438,6 +450,69 @@ public class ItemServiceTest {
         assertEquals(0, firstItem.get().getComments().size());
     }
 
+    @Test
+    public void getItemsByOwnerId_withBookingsAndComments_loadsThemInBatches() throws IllegalArgumentException {
+        // Arrange
+        var owner = new User(1L,
+                "Owner Name",
+                "owner.name@mail.com");
+        var booker = new User(2L,
+                "Booker Name",
+                "booker.name@mail.com");
+        var firstItem = new Item(
+                1L,
+                "First Item Name",
+                "First Item Description",
+                true,
+                owner,
+                null);
+        var secondItem = new Item(
+                2L,
+                "Second Item Name",
+                "Second Item Description",
+                true,
+                owner,
+                null);
+        var lastBooking = new Booking(1L,
+                LocalDateTime.now().minusDays(2),
+                LocalDateTime.now().minusDays(1),
+                firstItem,
+                booker,
+                Status.APPROVED);
+        var nextBooking = new Booking(2L,
+                LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2),
+                secondItem,
+                booker,
+                Status.WAITING);
+        var comment = new Comment(1L, "Comment", secondItem, booker, LocalDateTime.now());
+
+        when(itemRepository.findAllByOwnerIdOrderByIdAsc(anyLong(), any()))
+                .thenReturn(new PageImpl<>(List.of(firstItem, secondItem)));
+        when(bookingRepository.findLastBookingsByItemIdIn(any()))
+                .thenReturn(List.of(lastBooking));
+        when(bookingRepository.findNextBookingsByItemIdIn(any()))
+                .thenReturn(List.of(nextBooking));
+        when(commentRepository.findAllByItemIdInOrderByIdAsc(any()))
+                .thenReturn(List.of(comment));
+
+        // Act
+        var items = new ArrayList<>(itemService.getItemsByOwnerId(1L, null, null));
+
+        // Assert
+        assertEquals(2, items.size());
+        assertEquals(lastBooking.getId(), items.get(0).getLastBooking().getId());
+        assertNull(items.get(0).getNextBooking());
+        assertEquals(0, items.get(0).getComments().size());
+        assertNull(items.get(1).getLastBooking());
+        assertEquals(nextBooking.getId(), items.get(1).getNextBooking().getId());
+        assertEquals(1, items.get(1).getComments().size());
+        verify(bookingRepository, times(1)).findLastBookingsByItemIdIn(List.of(1L, 2L));
+        verify(bookingRepository, times(1)).findNextBookingsByItemIdIn(List.of(1L, 2L));
+        verify(commentRepository, times(1)).findAllByItemIdInOrderByIdAsc(List.of(1L, 2L));
+        verify(commentRepository, never()).findAllByItemIdOrderByIdAsc(anyLong());
+    }
+
     @Test
     public void getItemsByOwnerId_withInvalidSearchParams_throwsIllegalArgumentException()
             throws IllegalArgumentException {
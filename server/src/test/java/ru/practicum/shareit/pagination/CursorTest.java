@@ -0,0 +1,52 @@
+package ru.practicum.shareit.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class CursorTest {
+
+    @Test
+    public void decode_withEncodedIdCursor_returnsSameCursor() {
+        // Arrange
+        var cursor = Cursor.of(42L);
+
+        // Act
+        var decodedCursor = Cursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor.getId(), decodedCursor.getId());
+        assertNull(decodedCursor.getStart());
+    }
+
+    @Test
+    public void decode_withEncodedStartAndIdCursor_returnsSameCursor() {
+        // Arrange
+        var cursor = Cursor.of(LocalDateTime.of(2024, 1, 27, 10, 30, 15, 123456000), 42L);
+
+        // Act
+        var decodedCursor = Cursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor.getId(), decodedCursor.getId());
+        assertEquals(cursor.getStart(), decodedCursor.getStart());
+    }
+
+    @Test
+    public void decode_withEmptyToken_returnsNull() {
+        // Act & Assert
+        assertNull(Cursor.decode(""));
+        assertNull(Cursor.decode(null));
+    }
+
+    @Test
+    public void decode_withMalformedToken_throwsIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode("not a cursor"));
+    }
+
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.pagination;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.validation.ValidationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+public class PagingPolicyTest {
+
+    private PagingPolicy pagingPolicy;
+
+    @BeforeEach
+    public void setUp() {
+        var properties = new PagingProperties();
+        properties.setDefaultSize(20);
+        properties.setMaxSize(100);
+        pagingPolicy = new PagingPolicy(properties);
+    }
+
+    @Test
+    public void offset_withoutParams_returnsFirstPageOfDefaultSize() {
+        // Act
+        var pageable = pagingPolicy.offset(null, null);
+
+        // Assert
+        assertEquals(0, pageable.getOffset());
+        assertEquals(20, pageable.getPageSize());
+    }
+
+    @Test
+    public void offset_withFromMultipleOfSize_returnsPageNumber() {
+        // Act
+        var pageable = pagingPolicy.offset(30, 10);
+
+        // Assert
+        assertEquals(3, pageable.getPageNumber());
+        assertEquals(30, pageable.getOffset());
+        assertEquals(10, pageable.getPageSize());
+    }
+
+    @Test
+    public void offset_withFromNotMultipleOfSize_keepsExactOffset() {
+        // Act
+        var pageable = pagingPolicy.offset(5, 10);
+
+        // Assert
+        assertEquals(5, pageable.getOffset());
+        assertEquals(10, pageable.getPageSize());
+        assertEquals(15, pageable.next().getOffset());
+    }
+
+    @Test
+    public void offset_withSizeAboveMax_throwsValidationException() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> pagingPolicy.offset(1, 101));
+    }
+
+    @Test
+    public void offset_withInvalidParams_throwsIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> pagingPolicy.offset(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> pagingPolicy.offset(0, 0));
+    }
+
+    @Test
+    public void limit_withoutSize_returnsDefaultSize() {
+        // Act
+        var pageable = pagingPolicy.limit(null);
+
+        // Assert
+        assertEquals(0, pageable.getOffset());
+        assertEquals(20, pageable.getPageSize());
+    }
+
+}
@@ -5,10 +5,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.pagination.PagingPolicy;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestRequestBody;
 import ru.practicum.shareit.request.service.ItemRequestService;
@@ -24,10 +26,12 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemRequestController.class)
+@Import(PagingPolicy.class)
 public class ItemRequestControllerTest {
 
     private final ItemRequestRequestBody itemRequestRequestBody = new ItemRequestRequestBody("Description");
@@ -126,4 +130,38 @@ public class ItemRequestControllerTest {
                 .andExpect(jsonPath("$[0].items[0].id", is(itemRequestDto.getItems().stream().findFirst().get().getId()), Long.class));
     }
 
+    @Test
+    public void getItemRequests_withFullPage_returnsNextLink() throws Exception {
+        // Arrange
+        var headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", "1");
+
+        when(itemRequestService.getItemRequests(anyLong(), any(), any()))
+                .thenReturn(List.of(itemRequestDto));
+
+        // Act & Assert
+        mvc.perform(get("/requests/all")
+                        .headers(headers)
+                        .param("from", "2")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LINK, "</requests/all?from=3&size=1>; rel=\"next\""));
+    }
+
+    @Test
+    public void getItemRequests_withPartialPage_returnsNoNextLink() throws Exception {
+        // Arrange
+        var headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", "1");
+
+        when(itemRequestService.getItemRequests(anyLong(), any(), any()))
+                .thenReturn(List.of(itemRequestDto));
+
+        // Act & Assert
+        mvc.perform(get("/requests/all")
+                        .headers(headers))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
 }
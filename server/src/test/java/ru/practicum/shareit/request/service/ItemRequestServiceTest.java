@@ -6,11 +6,14 @@ import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageImpl;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.PagingPolicy;
+import ru.practicum.shareit.pagination.PagingProperties;
 import ru.practicum.shareit.request.dto.ItemRequestRequestBody;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
 
 import javax.validation.ValidationException;
 import java.time.LocalDateTime;
@@ -39,7 +42,10 @@ public class ItemRequestServiceTest {
     @BeforeEach
     public void setUp() {
         openMocks(this);
-        itemRequestService = new ItemRequestServiceImpl(itemRequestRepository, userRepository);
+        itemRequestService = new ItemRequestServiceImpl(itemRequestRepository,
+                userRepository,
+                new UserExistenceChecker(userRepository),
+                new PagingPolicy(new PagingProperties()));
     }
 
     @Test
@@ -120,8 +126,8 @@ public class ItemRequestServiceTest {
                         new User(1L, "Owner Name", "owner.name@mail.com"),
                         null)));
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(requester));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
         when(itemRequestRepository.findById(any()))
                 .thenReturn(Optional.of(itemRequest));
 
@@ -148,8 +154,8 @@ public class ItemRequestServiceTest {
                 "Requester Name",
                 "requester.name@mail.com");
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(requester));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
 
         // Act & Assert
         assertThrows(NoSuchElementException.class, () -> itemRequestService.getItemRequest(3L, 1L));
@@ -173,8 +179,8 @@ public class ItemRequestServiceTest {
                         new User(1L, "Owner Name", "owner.name@mail.com"),
                         null)));
 
-        when(userRepository.findById(any()))
-                .thenReturn(Optional.of(requester));
+        when(userRepository.existsById(any()))
+                .thenReturn(true);
         when(itemRequestRepository.findAllByRequesterIdOrderByIdAsc(any()))
                 .thenReturn(List.of(itemRequest));
 
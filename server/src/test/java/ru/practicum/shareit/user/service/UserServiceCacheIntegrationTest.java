@@ -0,0 +1,77 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Sql(scripts = "classpath:db/migration/common/V1__create_schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class UserServiceCacheIntegrationTest {
+
+    private final UserService userService;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void getUser_whenUserWasLoadedBefore_readsSecondLevelCache() {
+        // Arrange
+        var userDto = userService.addUser(new UserDto(1L,
+                "User Name",
+                "user.name@mail.com"));
+        userService.getUser(userDto.getId());
+        var statistics = clearedStatistics();
+
+        // Act
+        var cachedUserDto = userService.getUser(userDto.getId());
+
+        // Assert
+        assertEquals(userDto.getName(), cachedUserDto.getName());
+        assertEquals(userDto.getEmail(), cachedUserDto.getEmail());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    public void getUser_afterUpdate_returnsUpdatedUserFromCache() {
+        // Arrange
+        var userDto = userService.addUser(new UserDto(1L,
+                "User Name",
+                "user.name@mail.com"));
+        userService.getUser(userDto.getId());
+        userService.updateUser(userDto.getId(), new UserDto(1L,
+                "Updated Name",
+                null));
+        var statistics = clearedStatistics();
+
+        // Act
+        var cachedUserDto = userService.getUser(userDto.getId());
+
+        // Assert
+        assertEquals("Updated Name", cachedUserDto.getName());
+        assertEquals("user.name@mail.com", cachedUserDto.getEmail());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private Statistics clearedStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+}
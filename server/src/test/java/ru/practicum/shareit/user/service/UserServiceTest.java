@@ -36,7 +36,7 @@ public class UserServiceTest {
     @BeforeEach
     public void setUp() {
         openMocks(this);
-        userService = new UserServiceImpl(userRepository);
+        userService = new UserServiceImpl(userRepository, new UserExistenceChecker(userRepository));
     }
 
     @Test